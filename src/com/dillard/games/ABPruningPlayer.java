@@ -1,180 +1,933 @@
-package com.dillard.games;
-import java.util.Comparator;
-import java.util.List;
-import java.util.Random;
-import java.util.stream.Collectors;
-
-public class ABPruningPlayer<M extends Move, G extends Game<M, G>> implements GamePlayer<M, G> {
-	private GameNode<M, G> root = null;
-	private boolean isPlayer1;
-
-	int childrenFound=0, childrenMissing=0;
-
-	private int turnDepthLimit;
-	private int numLeafNodes = 0;
-	private Random random;
-
-	public ABPruningPlayer(int turnDepthLim, Random rand) {
-		if (turnDepthLim < 1) {
-			throw new RuntimeException("Turn depth limit must be >= 1");
-		}
-
-		this.turnDepthLimit = turnDepthLim;
-		this.random = rand;
-	}
-
-	public M move(G theGame) {
-	    numLeafNodes = 0;
-
-	    // TODO should re-use game trees across calls
-	    if (root == null) {
-	        root = new GameNode<M, G>(theGame, null);
-	    }
-		isPlayer1 = theGame.isPlayer1Turn();
-
-		// For each move in head, score the results of the moves
-		maxValue(root, 0, -Double.MAX_VALUE, Double.MAX_VALUE);
-
-		// Return the highest valued move
-		List<GameNode<M, G>> children = root.getChildren();
-		if (children == null) {
-			throw new RuntimeException("Game tree is empty");
-		}
-
-		// Find the high score
-		double highScore = children.stream()
-		        .max(Comparator.comparing(GameNode::getScore))
-		        .orElseThrow()
-		        .getScore();
-//		double highScore = -Double.MAX_VALUE;
-//		for (GameNode<M, G> child : children) {
-//            if (child.getScore() > highScore) {
-//                highScore = child.getScore();
-//            }
-//		}
-
-		// Make a list of all moves that result in the high score
-		List<M> highScoreMoveList = children.stream()
-		        .filter(child -> child.getScore() == highScore)
-		        .map(child -> child.getMove())
-		        .collect(Collectors.toList());
-//		List<M> highScoreMoveList = new ArrayList<M>();
-//		for (GameNode<M, G> child : children) {
-//			if (child.getScore() == highScore) {
-//				highScoreMoveList.add(child.getMove());
-//			}
-//		}
-
-		// Pick one move at random from that list
-		int highScoreMoveIndex = random.nextInt(highScoreMoveList.size());
-
-//		System.out.println(childrenFound / (double) (childrenFound + childrenMissing));
-
-		return highScoreMoveList.get(highScoreMoveIndex);
-	}
-
-	private double maxValue(GameNode<M, G> gameNode, int turnDepth, double alpha, double beta) {
-		return minMaxValue(true, gameNode, turnDepth, alpha, beta);
-	}
-
-	private double minValue(GameNode<M, G> gameNode, int turnDepth, double alpha, double beta) {
-	    return minMaxValue(false, gameNode, turnDepth, alpha, beta);
-	}
-
-	private double minMaxValue(boolean maximize, GameNode<M, G> gameNode, int turnDepth, double alpha, double beta) {
-		G theGame = gameNode.getGame();
-		if (cutoff(theGame, turnDepth)) {
-		    numLeafNodes++;
-			return evaluate(theGame);
-		}
-
-		double highestOrLowest = maximize
-		        ? -Double.MAX_VALUE
-		        : Double.MAX_VALUE;
-
-		// For each move and resulting state,
-		// beta = min(beta, maxValue(theGame, turnDepth+1, alpha, beta))
-		// if(alpha >= beta) return alpha;
-		boolean hadChildren = gameNode.getChildren() != null;
-		for (M move: theGame.getMoves()) {
-
-		    GameNode<M, G> childNode = gameNode.getChildForMove(move);
-		    if (childNode == null) { // had not already explored this node
-		        childrenMissing++;
-//		        if (hadChildren) {
-//                    System.out.println("Move was not found in children!");
-//                    System.out.println(move);
-//                    var moves = gameNode.getChildren().stream()
-//                        .map(child -> child.getMove())
-//                        .collect(Collectors.toList());
-//                    System.out.println(moves);
-//		        }
-
-    			// Perform each move
-    			G tempGame = theGame.clone();
-    			tempGame.move(move);
-    			childNode = new GameNode<M, G>(tempGame, move);
-    			gameNode.addChild(childNode);
-		    } else {
-		        childrenFound++;
-		    }
-
-			// AB-pruning logic
-			// Get either the min value or the max value, depending whose turn is next
-			// (does not strictly alternate in case it is my turn twice in a row)
-			double tempVal = (isPlayer1 == childNode.getGame().isPlayer1Turn() ?
-					    maxValue(childNode, turnDepth+1, alpha, beta) :
-						minValue(childNode, turnDepth+1, alpha, beta));
-			childNode.setScore(tempVal);
-			if (maximize) {
-	            alpha = Math.max(alpha, tempVal);
-	            highestOrLowest = Math.max(highestOrLowest, tempVal);
-
-	            // Pruning condition
-	            if (alpha >= beta) return highestOrLowest;
-			} else {
-    			beta = Math.min(beta, tempVal);
-    			highestOrLowest = Math.min(highestOrLowest, tempVal);
-
-    			// Pruning condition
-    			if (beta < alpha) return highestOrLowest;
-			}
-		}
-
-		// Return the highest/lowest value just found in this method, not the alpha input value
-		return highestOrLowest;
-	}
-
-    public void advanceToMove(M move) {
-        if (root != null) {
-            var oldRoot = root;
-            root = root.getChildForMove(move);
-            if (root == null && oldRoot.getChildren() != null) {
-                System.out.println("Move was not found in children!");
-                System.out.println(move);
-                var moves = oldRoot.getChildren().stream()
-                    .map(child -> child.getMove())
-                    .collect(Collectors.toList());
-                System.out.println(moves);
-            }
-        }
-    }
-
-	private boolean cutoff(Game<M, G> theGame, int turnDepth) {
-		if (theGame.isTerminated() || turnDepth == turnDepthLimit) {
-			return true;
-		}
-		if (turnDepth > turnDepthLimit) {
-		    throw new RuntimeException("AB pruning player went past its limit!");
-		}
-		return false;
-	}
-
-	private double evaluate(G theGame) {
-		return theGame.evaluate(isPlayer1);
-	}
-
-	public boolean isPlayer1() {
-		return isPlayer1;
-	}
-}
+package com.dillard.games;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+public class ABPruningPlayer<M extends Move, G extends Game<M, G>> implements GamePlayer<M, G> {
+	public static final int DEFAULT_TRANSPOSITION_TABLE_SIZE = 1 << 18;
+	public static final int DEFAULT_MAX_RETAINED_NODES = 1 << 20;
+	public static final long DEFAULT_QUIESCENCE_NODE_BUDGET = 1 << 20;
+	// Score of a win when a tablebase is used, less the number of turns to the win so that faster wins are preferred
+	public static final double TABLEBASE_WIN_SCORE = 1e6;
+	private static final int MAX_ITERATIVE_DEEPENING_DEPTH = 200;
+	private static final int NODES_PER_TIME_CHECK = 256;
+	// Stored depth for positions whose every line was searched to the end of the game
+	private static final int RESOLVED_DEPTH = Integer.MAX_VALUE;
+
+	private GameNode<M, G> root = null;
+	private boolean isPlayer1;
+	private boolean hasMoved = false;
+	private TranspositionTable<M> transpositionTable;
+	private final TranspositionTable.Entry<M> ttEntry = new TranspositionTable.Entry<>();
+	private MoveOrdering<M> moveOrdering = new MoveOrdering<>();
+
+	// Principal variation search: after the first move, prove each move is no better with a null window,
+	// and only search it fully if it is.
+	private boolean usePrincipalVariationSearch = false;
+	// Iterative deepening searches the root with a window this far either side of the previous depth's score.
+	// 0 searches with a full window.
+	private double aspirationWindow = 0;
+	private int numAspirationResearches = 0;
+
+	// Quiescence search: past the depth limit, keep searching captures until the position is quiet
+	private boolean useQuiescenceSearch = false;
+	private long quiescenceNodeBudget = DEFAULT_QUIESCENCE_NODE_BUDGET;
+	private long numQuiescenceNodes = 0;
+
+	// Endgame tablebase: positions it knows are scored exactly, and beyond any heuristic evaluation
+	private Tablebase<G> tablebase = null;
+	private long numTablebaseHits = 0;
+
+	// Positions in the opening book are played from the book without searching
+	private OpeningBook<M, G> openingBook = null;
+
+	int childrenFound=0, childrenMissing=0;
+
+	private int turnDepthLimit;
+	private int numLeafNodes = 0;
+	private long numNodes = 0;
+	private int numCutoffs = 0, numFirstMoveCutoffs = 0;
+	private Random random;
+
+	// Iterative deepening state
+	private long deadlineNanos = 0; // 0 when there is no deadline
+	private int nodesSinceTimeCheck = 0;
+	private long numDepthLimitedNodes = 0;
+	private List<M> rootMoveOrder = null;
+	private int lastCompletedDepth = 0;
+	private double lastScore = 0;
+
+	// When the game can undo moves, only the root and its children are kept as GameNodes.
+	// Deeper positions are searched by taking and undoing moves on the child's game.
+	private boolean useUndo = false;
+
+	// Game tree memory limits. Below the root's children, nodes are only added while there is room,
+	// and before each search the deepest levels are evicted to make room for it.
+	private int maxRetainedNodes = DEFAULT_MAX_RETAINED_NODES;
+	private boolean storeOnlyMoves = false;
+	private int retainedNodes = 0;
+	private long evictedNodes = 0;
+
+	// Lazy SMP: helper players search the same position on other threads and share results
+	// through the transposition table. Only the main player's result is used.
+	private final int numThreads;
+	private final ABPruningPlayer<M, G> mainPlayer; // null unless this is a helper
+	private List<ABPruningPlayer<M, G>> helpers = null;
+	private ThreadPoolExecutor helperExecutor = null;
+	private final List<Future<?>> helperFutures = new ArrayList<>();
+	private volatile boolean stopHelpers = false;
+
+	public ABPruningPlayer(int turnDepthLim, Random rand) {
+		this(turnDepthLim, rand, DEFAULT_TRANSPOSITION_TABLE_SIZE);
+	}
+
+	/**
+	 * @param transpositionTableSize the number of transposition table entries, or 0 to search without one
+	 */
+	public ABPruningPlayer(int turnDepthLim, Random rand, int transpositionTableSize) {
+		this(turnDepthLim, rand, transpositionTableSize, 1);
+	}
+
+	/**
+	 * @param transpositionTableSize the number of transposition table entries, or 0 to search without one
+	 * @param numThreads the number of threads to search with. Extra threads need a transposition table.
+	 */
+	public ABPruningPlayer(int turnDepthLim, Random rand, int transpositionTableSize, int numThreads) {
+		if (turnDepthLim < 1) {
+			throw new RuntimeException("Turn depth limit must be >= 1");
+		}
+		if (transpositionTableSize < 0) {
+			throw new RuntimeException("Transposition table size must be >= 0");
+		}
+		if (numThreads < 1) {
+			throw new RuntimeException("Number of threads must be >= 1");
+		}
+		if (numThreads > 1 && transpositionTableSize == 0) {
+			throw new RuntimeException("Multi-threaded search needs a transposition table");
+		}
+
+		this.turnDepthLimit = turnDepthLim;
+		this.random = rand;
+		if (transpositionTableSize > 0) {
+			this.transpositionTable = new TranspositionTable<M>(transpositionTableSize);
+		}
+		this.numThreads = numThreads;
+		this.mainPlayer = null;
+	}
+
+	/** Create a helper that shares the main player's transposition table */
+	private ABPruningPlayer(ABPruningPlayer<M, G> mainPlayer, Random rand) {
+		this.turnDepthLimit = mainPlayer.turnDepthLimit;
+		this.random = rand;
+		this.transpositionTable = mainPlayer.transpositionTable;
+		this.numThreads = 1;
+		this.mainPlayer = mainPlayer;
+	}
+
+	public M move(G theGame) {
+	    M bookMove = bookMove(theGame);
+	    if (bookMove != null) {
+	        return bookMove;
+	    }
+	    startSearch(theGame);
+
+		// For each move in head, score the results of the moves
+	    startHelpers(theGame);
+	    try {
+	        lastScore = maxValue(root, root.getGame(), 0, -Double.MAX_VALUE, Double.MAX_VALUE);
+	    } finally {
+	        stopHelpers();
+	    }
+		lastCompletedDepth = turnDepthLimit;
+
+		// Pick one move at random from the highest valued moves
+		List<M> highScoreMoveList = highScoreMoves();
+		return highScoreMoveList.get(random.nextInt(highScoreMoveList.size()));
+	}
+
+	/**
+	 * Search one turn deeper at a time until the time budget runs out, and return the best move
+	 * from the deepest search that completed. Each search tries the best moves from the previous
+	 * one first. The first search (depth 1) always completes, even if it takes longer than the budget.
+	 */
+	public M move(G theGame, Duration budget) {
+	    M bookMove = bookMove(theGame);
+	    if (bookMove != null) {
+	        return bookMove;
+	    }
+	    startSearch(theGame);
+	    final long deadline = System.nanoTime() + budget.toNanos();
+
+	    List<M> highScoreMoveList;
+	    startHelpers(theGame);
+	    try {
+	        highScoreMoveList = deepen(1, deadline);
+	    } finally {
+	        stopHelpers();
+	    }
+
+		return highScoreMoveList.get(random.nextInt(highScoreMoveList.size()));
+	}
+
+	/** The opening book's move for this position, or null to search */
+	private M bookMove(G theGame) {
+	    if (openingBook == null) {
+	        return null;
+	    }
+	    M bookMove = openingBook.move(theGame, random);
+	    if (bookMove != null) {
+	        // the tree no longer follows the game
+	        root = null;
+	        retainedNodes = 0;
+	    }
+	    return bookMove;
+	}
+
+	/**
+	 * Search one turn deeper at a time, starting from startDepth, until every line reaches the end
+	 * of the game, the deadline passes, or a helper is told to stop. The deadline only applies once
+	 * the first search has completed.
+	 * @param deadline System.nanoTime() deadline, or 0 for none
+	 * @return the highest valued moves from the deepest search that completed, or null if none did
+	 */
+	private List<M> deepen(int startDepth, long deadline) {
+	    final int fixedDepthLimit = turnDepthLimit;
+	    List<M> highScoreMoveList = null;
+	    double previousScore = 0;
+	    try {
+	        for (int depth = startDepth; depth <= MAX_ITERATIVE_DEEPENING_DEPTH; depth++) {
+	            turnDepthLimit = depth;
+	            long depthLimitedBefore = numDepthLimitedNodes;
+	            if (aspirationWindow > 0 && depth > startDepth) {
+	                double low = previousScore - aspirationWindow;
+	                double high = previousScore + aspirationWindow;
+	                previousScore = maxValue(root, root.getGame(), 0, low, high);
+	                if (previousScore <= low || previousScore >= high) {
+	                    // The score is only a bound, so search again with a full window
+	                    numAspirationResearches++;
+	                    previousScore = maxValue(root, root.getGame(), 0, -Double.MAX_VALUE, Double.MAX_VALUE);
+	                }
+	            } else {
+	                previousScore = maxValue(root, root.getGame(), 0, -Double.MAX_VALUE, Double.MAX_VALUE);
+	            }
+
+	            lastCompletedDepth = depth;
+	            lastScore = previousScore;
+	            highScoreMoveList = highScoreMoves();
+	            rootMoveOrder = root.getChildren().stream()
+	                    .sorted(Comparator.comparing(GameNode<M, G>::getScore).reversed())
+	                    .map(GameNode::getMove)
+	                    .collect(Collectors.toList());
+
+	            // Stop if every line reached the end of the game, or we are out of time
+	            if (numDepthLimitedNodes == depthLimitedBefore) {
+	                break;
+	            }
+	            if (deadline != 0) {
+	                deadlineNanos = deadline;
+	                if (System.nanoTime() - deadline >= 0) {
+	                    break;
+	                }
+	            }
+	        }
+	    } catch (SearchTimeoutException e) {
+	        // The unfinished iteration is discarded
+	    } finally {
+	        turnDepthLimit = fixedDepthLimit;
+	        deadlineNanos = 0;
+	        rootMoveOrder = null;
+	    }
+	    return highScoreMoveList;
+	}
+
+	/** Start the helpers searching copies of the game, if this player uses more than one thread */
+	private void startHelpers(G theGame) {
+	    if (numThreads == 1) {
+	        return;
+	    }
+	    if (helpers == null) {
+	        helpers = new ArrayList<>();
+	        for (int i=1; i<numThreads; i++) {
+	            ABPruningPlayer<M, G> helper = new ABPruningPlayer<M, G>(this, new Random(random.nextLong()));
+	            copySettingsTo(helper);
+	            helpers.add(helper);
+	        }
+	        // Idle threads exit, so a player that is no longer used does not hold on to them
+	        helperExecutor = new ThreadPoolExecutor(numThreads - 1, numThreads - 1,
+	                10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+	                    Thread t = new Thread(r, "ABPruningPlayer helper");
+	                    t.setDaemon(true);
+	                    return t;
+	                });
+	        helperExecutor.allowCoreThreadTimeOut(true);
+	    }
+
+	    stopHelpers = false;
+	    for (int i=0; i<helpers.size(); i++) {
+	        ABPruningPlayer<M, G> helper = helpers.get(i);
+	        G helperGame = theGame.clone();
+	        // Half of the helpers start one turn deeper, so that the threads are not all on the same depth
+	        int startDepth = 1 + i % 2;
+	        helperFutures.add(helperExecutor.submit(() -> helper.helperSearch(helperGame, startDepth)));
+	    }
+	}
+
+	private void stopHelpers() {
+	    if (helperFutures.isEmpty()) {
+	        return;
+	    }
+	    stopHelpers = true;
+	    try {
+	        for (Future<?> future : helperFutures) {
+	            future.get();
+	        }
+	    } catch (InterruptedException e) {
+	        Thread.currentThread().interrupt();
+	        throw new RuntimeException(e);
+	    } catch (ExecutionException e) {
+	        throw new RuntimeException("Helper search failed", e.getCause());
+	    } finally {
+	        helperFutures.clear();
+	    }
+	}
+
+	private void helperSearch(G theGame, int startDepth) {
+	    startSearch(theGame);
+	    // Try the root moves in a different order from the main player
+	    List<M> moves = new ArrayList<>(theGame.getMoves());
+	    Collections.shuffle(moves, random);
+	    rootMoveOrder = moves;
+	    deepen(startDepth, 0);
+	}
+
+	private void startSearch(G theGame) {
+	    numLeafNodes = 0;
+	    numNodes = 0;
+	    numAspirationResearches = 0;
+	    numQuiescenceNodes = 0;
+	    numTablebaseHits = 0;
+	    numCutoffs = numFirstMoveCutoffs = 0;
+	    moveOrdering.newSearch();
+
+	    // Re-use the game tree if it was advanced to this position, otherwise start a new one
+	    if (root != null && root.getGame().positionHash() != theGame.positionHash()) {
+	        root = null;
+	    }
+	    if (root == null) {
+	        root = new GameNode<M, G>(theGame, null);
+	        retainedNodes = 1;
+	    }
+	    if (retainedNodes > maxRetainedNodes / 2) {
+	        evictDeepestLevels(maxRetainedNodes / 2);
+	    }
+	    useUndo = theGame instanceof UndoableGame;
+		if (transpositionTable != null && mainPlayer == null) {
+		    // Scores are stored from our own perspective, so they are no good if we switch sides
+		    if (hasMoved && isPlayer1 != theGame.isPlayer1Turn()) {
+		        transpositionTable.clear();
+		    }
+		    transpositionTable.newSearch();
+		}
+		isPlayer1 = theGame.isPlayer1Turn();
+		hasMoved = true;
+	}
+
+	private List<M> highScoreMoves() {
+		// Return the highest valued move
+		List<GameNode<M, G>> children = root.getChildren();
+		if (children == null) {
+			throw new RuntimeException("Game tree is empty");
+		}
+
+		// Find the high score
+		double highScore = children.stream()
+		        .max(Comparator.comparing(GameNode::getScore))
+		        .orElseThrow()
+		        .getScore();
+//		double highScore = -Double.MAX_VALUE;
+//		for (GameNode<M, G> child : children) {
+//            if (child.getScore() > highScore) {
+//                highScore = child.getScore();
+//            }
+//		}
+
+		// Make a list of all moves that result in the high score
+		List<M> highScoreMoveList = children.stream()
+		        .filter(child -> child.getScore() == highScore)
+		        .map(child -> child.getMove())
+		        .collect(Collectors.toList());
+//		List<M> highScoreMoveList = new ArrayList<M>();
+//		for (GameNode<M, G> child : children) {
+//			if (child.getScore() == highScore) {
+//				highScoreMoveList.add(child.getMove());
+//			}
+//		}
+
+//		System.out.println(childrenFound / (double) (childrenFound + childrenMissing));
+
+		return highScoreMoveList;
+	}
+
+	private double maxValue(GameNode<M, G> gameNode, G theGame, int turnDepth, double alpha, double beta) {
+		return minMaxValue(true, gameNode, theGame, turnDepth, alpha, beta);
+	}
+
+	private double minValue(GameNode<M, G> gameNode, G theGame, int turnDepth, double alpha, double beta) {
+	    return minMaxValue(false, gameNode, theGame, turnDepth, alpha, beta);
+	}
+
+	/**
+	 * @param gameNode the tree node for theGame, or null if it is not kept in the tree
+	 * @param theGame the position to search. It is left as it was found.
+	 */
+	private double minMaxValue(boolean maximize, GameNode<M, G> gameNode, G theGame, int turnDepth,
+	        double alpha, double beta) {
+	    numNodes++;
+	    checkTimeout();
+	    if (tablebase != null && turnDepth > 0 && !theGame.isTerminated()) {
+	        double tablebaseScore = tablebaseScore(theGame);
+	        if (!Double.isNaN(tablebaseScore)) {
+	            numLeafNodes++;
+	            return tablebaseScore;
+	        }
+	    }
+		if (cutoff(theGame, turnDepth)) {
+		    numLeafNodes++;
+		    if (useQuiescenceSearch && !theGame.isTerminated()) {
+		        return quiescenceValue(maximize, theGame, alpha, beta);
+		    }
+			return evaluate(theGame);
+		}
+
+		// Check whether we have already searched this position deeply enough,
+		// possibly through a different move order.
+		// The root is always searched so that every one of its moves gets a score.
+		int remainingDepth = turnDepthLimit - turnDepth;
+		long positionHash = 0;
+		M hashMove = null;
+		if (transpositionTable != null) {
+		    positionHash = theGame.positionHash();
+		    if (transpositionTable.probe(positionHash, ttEntry)) {
+		        hashMove = ttEntry.bestMove;
+		        if (turnDepth > 0 && ttEntry.depth >= remainingDepth) {
+		            if (ttEntry.depth != RESOLVED_DEPTH) {
+		                numDepthLimitedNodes++;
+		            }
+		            double ttScore = ttEntry.score;
+		            switch (ttEntry.boundType) {
+		            case TranspositionTable.EXACT:
+		                return ttScore;
+		            case TranspositionTable.LOWER_BOUND:
+		                alpha = Math.max(alpha, ttScore);
+		                break;
+		            case TranspositionTable.UPPER_BOUND:
+		                beta = Math.min(beta, ttScore);
+		                break;
+		            }
+		            if (alpha >= beta) {
+		                return ttScore;
+		            }
+		        }
+		    }
+		}
+		final double searchAlpha = alpha, searchBeta = beta;
+		final long depthLimitedBefore = numDepthLimitedNodes;
+
+		double highestOrLowest = maximize
+		        ? -Double.MAX_VALUE
+		        : Double.MAX_VALUE;
+		M bestMove = null;
+
+		// For each move and resulting state,
+		// beta = min(beta, maxValue(theGame, turnDepth+1, alpha, beta))
+		// if(alpha >= beta) return alpha;
+		List<M> moves = turnDepth == 0 && rootMoveOrder != null
+		        ? rootMoveOrder
+		        : moveOrdering.order(theGame.getMoves(), hashMove, turnDepth);
+		int moveIndex = 0;
+		for (M move: moves) {
+		    GameNode<M, G> childNode = null;
+		    if (gameNode != null) {
+    		    childNode = gameNode.getChildForMove(move);
+    		    if (childNode == null) { // had not already explored this node
+    		        childrenMissing++;
+    		        // The root's children are always kept, since their scores pick the move
+    		        if (turnDepth == 0 || retainedNodes < maxRetainedNodes) {
+    		            childNode = createChild(theGame, move);
+    		            gameNode.addChild(childNode);
+    		            retainedNodes++;
+    		        }
+    		    } else {
+    		        childrenFound++;
+    		    }
+		    }
+
+		    double tempVal;
+		    if (childNode != null && childNode.storesGame()) {
+		        GameNode<M, G> searchNode = useUndo ? null : childNode;
+		        tempVal = childValue(maximize, moveIndex == 0, searchNode, childNode.getGame(), turnDepth, alpha, beta);
+		    } else if (useUndo) {
+		        @SuppressWarnings("unchecked")
+		        UndoableGame<M, G> undoableGame = (UndoableGame<M, G>) theGame;
+		        Object undoToken = undoableGame.doMove(move);
+		        try {
+		            tempVal = childValue(maximize, moveIndex == 0, null, theGame, turnDepth, alpha, beta);
+		        } finally {
+		            undoableGame.undoMove(undoToken);
+		        }
+		    } else {
+		        G childGame = theGame.clone();
+		        childGame.move(move);
+		        tempVal = childValue(maximize, moveIndex == 0, childNode, childGame, turnDepth, alpha, beta);
+		    }
+		    if (childNode != null) {
+		        childNode.setScore(tempVal);
+		    }
+
+			if (maximize) {
+	            alpha = Math.max(alpha, tempVal);
+	            if (tempVal > highestOrLowest || bestMove == null) {
+	                highestOrLowest = tempVal;
+	                bestMove = move;
+	            }
+
+	            // Pruning condition
+	            if (alpha >= beta) {
+	                recordCutoff(move, moveIndex, turnDepth, remainingDepth);
+	                break;
+	            }
+			} else {
+    			beta = Math.min(beta, tempVal);
+    			if (tempVal < highestOrLowest || bestMove == null) {
+    			    highestOrLowest = tempVal;
+    			    bestMove = move;
+    			}
+
+    			// Pruning condition
+    			if (beta < alpha) {
+    			    recordCutoff(move, moveIndex, turnDepth, remainingDepth);
+    			    break;
+    			}
+			}
+			moveIndex++;
+		}
+
+		if (transpositionTable != null) {
+		    byte boundType = highestOrLowest <= searchAlpha ? TranspositionTable.UPPER_BOUND
+		            : highestOrLowest >= searchBeta ? TranspositionTable.LOWER_BOUND
+		            : TranspositionTable.EXACT;
+		    // if no line was cut off by depth, the result holds for any deeper search too
+		    int storedDepth = numDepthLimitedNodes == depthLimitedBefore ? RESOLVED_DEPTH : remainingDepth;
+		    transpositionTable.store(positionHash, storedDepth, boundType, highestOrLowest, bestMove);
+		}
+
+		// Return the highest/lowest value just found in this method, not the alpha input value
+		return highestOrLowest;
+	}
+
+	private void checkTimeout() {
+		if ((deadlineNanos != 0 || mainPlayer != null) && ++nodesSinceTimeCheck >= NODES_PER_TIME_CHECK) {
+		    nodesSinceTimeCheck = 0;
+		    if ((deadlineNanos != 0 && System.nanoTime() - deadlineNanos >= 0)
+		            || (mainPlayer != null && mainPlayer.stopHelpers)) {
+		        throw new SearchTimeoutException();
+		    }
+		}
+	}
+
+	/**
+	 * Search past the depth limit through captures only, until the position is quiet, so that
+	 * a leaf is not scored in the middle of an exchange. If the side to move has a choice
+	 * between capturing and not, it can stand pat on the static evaluation.
+	 * Once the quiescence node budget for this search is used up, positions are scored as they are.
+	 */
+	private double quiescenceValue(boolean maximize, G theGame, double alpha, double beta) {
+	    if (theGame.isTerminated()) {
+	        return evaluate(theGame);
+	    }
+	    List<M> moves = theGame.getMoves();
+	    List<M> captures = new ArrayList<>();
+	    for (M move : moves) {
+	        if (move.isCapture()) {
+	            captures.add(move);
+	        }
+	    }
+	    if (captures.isEmpty() || numQuiescenceNodes >= quiescenceNodeBudget) {
+	        return evaluate(theGame);
+	    }
+	    numQuiescenceNodes++;
+
+	    double highestOrLowest = maximize ? -Double.MAX_VALUE : Double.MAX_VALUE;
+	    if (captures.size() < moves.size()) {
+	        // Capturing is optional, so this side can settle for the position as it is
+	        highestOrLowest = evaluate(theGame);
+	        if (maximize) {
+	            if (highestOrLowest >= beta) return highestOrLowest;
+	            alpha = Math.max(alpha, highestOrLowest);
+	        } else {
+	            if (highestOrLowest < alpha) return highestOrLowest;
+	            beta = Math.min(beta, highestOrLowest);
+	        }
+	    }
+
+	    for (M move : captures) {
+	        numNodes++;
+	        checkTimeout();
+	        double tempVal;
+	        if (useUndo) {
+	            @SuppressWarnings("unchecked")
+	            UndoableGame<M, G> undoableGame = (UndoableGame<M, G>) theGame;
+	            Object undoToken = undoableGame.doMove(move);
+	            try {
+	                tempVal = quiescenceValue(isPlayer1 == theGame.isPlayer1Turn(), theGame, alpha, beta);
+	            } finally {
+	                undoableGame.undoMove(undoToken);
+	            }
+	        } else {
+	            G childGame = theGame.clone();
+	            childGame.move(move);
+	            tempVal = quiescenceValue(isPlayer1 == childGame.isPlayer1Turn(), childGame, alpha, beta);
+	        }
+
+	        if (maximize) {
+	            highestOrLowest = Math.max(highestOrLowest, tempVal);
+	            alpha = Math.max(alpha, tempVal);
+	            if (alpha >= beta) break;
+	        } else {
+	            highestOrLowest = Math.min(highestOrLowest, tempVal);
+	            beta = Math.min(beta, tempVal);
+	            if (beta < alpha) break;
+	        }
+	    }
+	    return highestOrLowest;
+	}
+
+	private GameNode<M, G> createChild(G theGame, M move) {
+	    if (storeOnlyMoves) {
+	        return new GameNode<M, G>(move);
+	    }
+	    if (useUndo) {
+	        // GameNode makes its own copy, so no need for a temporary clone
+	        @SuppressWarnings("unchecked")
+	        UndoableGame<M, G> undoableGame = (UndoableGame<M, G>) theGame;
+	        Object undoToken = undoableGame.doMove(move);
+	        try {
+	            return new GameNode<M, G>(theGame, move);
+	        } finally {
+	            undoableGame.undoMove(undoToken);
+	        }
+	    }
+
+	    // Perform each move
+	    G tempGame = theGame.clone();
+	    tempGame.move(move);
+	    return new GameNode<M, G>(tempGame, move);
+	}
+
+	private double childValue(boolean maximize, boolean firstChild, GameNode<M, G> childNode, G childGame,
+	        int turnDepth, double alpha, double beta) {
+	    if (!usePrincipalVariationSearch || firstChild) {
+	        return childValue(childNode, childGame, turnDepth, alpha, beta);
+	    }
+
+	    // Assume the moves searched so far include the best one, and check it with the narrowest window
+	    // next to the bound. Only a move that turns out better needs the full window.
+	    if (maximize) {
+	        double value = childValue(childNode, childGame, turnDepth, alpha, Math.nextUp(alpha));
+	        if (value > alpha && value < beta) {
+	            value = childValue(childNode, childGame, turnDepth, alpha, beta);
+	        }
+	        return value;
+	    } else {
+	        double value = childValue(childNode, childGame, turnDepth, Math.nextDown(beta), beta);
+	        if (value < beta && value > alpha) {
+	            value = childValue(childNode, childGame, turnDepth, alpha, beta);
+	        }
+	        return value;
+	    }
+	}
+
+	private double childValue(GameNode<M, G> childNode, G childGame, int turnDepth, double alpha, double beta) {
+	    // AB-pruning logic
+	    // Get either the min value or the max value, depending whose turn is next
+	    // (does not strictly alternate in case it is my turn twice in a row)
+	    return isPlayer1 == childGame.isPlayer1Turn() ?
+	            maxValue(childNode, childGame, turnDepth+1, alpha, beta) :
+	            minValue(childNode, childGame, turnDepth+1, alpha, beta);
+	}
+
+	/**
+	 * Drop the deepest levels of the game tree until it has at most maxNodes nodes.
+	 * Whole levels are kept, nearest the root first, since deeper positions are the least likely
+	 * to be reached and the cheapest to search again. The root's children are always kept.
+	 */
+	private void evictDeepestLevels(int maxNodes) {
+	    int kept = 1;
+	    List<GameNode<M, G>> level = new ArrayList<>();
+	    level.add(root);
+	    while (true) {
+	        List<GameNode<M, G>> nextLevel = new ArrayList<>();
+	        for (GameNode<M, G> node : level) {
+	            if (node.getChildren() != null) {
+	                nextLevel.addAll(node.getChildren());
+	            }
+	        }
+	        if (nextLevel.isEmpty()) {
+	            break;
+	        }
+	        if (level.get(0) != root && kept + nextLevel.size() > maxNodes) {
+	            for (GameNode<M, G> node : level) {
+	                node.clearChildren();
+	            }
+	            break;
+	        }
+	        kept += nextLevel.size();
+	        level = nextLevel;
+	    }
+	    evictedNodes += retainedNodes - kept;
+	    retainedNodes = kept;
+	}
+
+	private void recordCutoff(M move, int moveIndex, int turnDepth, int remainingDepth) {
+	    numCutoffs++;
+	    if (moveIndex == 0) {
+	        numFirstMoveCutoffs++;
+	    }
+	    moveOrdering.recordCutoff(move, turnDepth, remainingDepth);
+	}
+
+    public void advanceToMove(M move) {
+        if (root != null) {
+            var oldRoot = root;
+            root = root.getChildForMove(move);
+            if (root != null) {
+                root.detachFromParent();
+                retainedNodes = root.countNodes();
+            }
+            if (root == null && oldRoot.getChildren() != null) {
+                System.out.println("Move was not found in children!");
+                System.out.println(move);
+                var moves = oldRoot.getChildren().stream()
+                    .map(child -> child.getMove())
+                    .collect(Collectors.toList());
+                System.out.println(moves);
+            }
+        }
+    }
+
+	private boolean cutoff(Game<M, G> theGame, int turnDepth) {
+		if (theGame.isTerminated()) {
+			return true;
+		}
+		if (turnDepth == turnDepthLimit) {
+			numDepthLimitedNodes++;
+			return true;
+		}
+		if (turnDepth > turnDepthLimit) {
+		    throw new RuntimeException("AB pruning player went past its limit!");
+		}
+		return false;
+	}
+
+	private double evaluate(G theGame) {
+		if (tablebase != null) {
+			// finished games have to be scored on the same scale as tablebase results
+			if (theGame.isTerminated()) {
+				return theGame.getFinalScore(isPlayer1) * TABLEBASE_WIN_SCORE;
+			}
+			double tablebaseScore = tablebaseScore(theGame);
+			if (!Double.isNaN(tablebaseScore)) {
+				return tablebaseScore;
+			}
+		}
+		return theGame.evaluate(isPlayer1);
+	}
+
+	/** The tablebase's score for the position, or NaN if it isn't in the tablebase */
+	private double tablebaseScore(G theGame) {
+		double result = tablebase.probe(theGame, isPlayer1);
+		if (Double.isNaN(result)) {
+			return result;
+		}
+		numTablebaseHits++;
+		if (result == 0) {
+			return 0;
+		}
+		return result * (TABLEBASE_WIN_SCORE - tablebase.turnsToEnd(theGame));
+	}
+
+	public boolean isPlayer1() {
+		return isPlayer1;
+	}
+
+	public int getNumLeafNodes() {
+		return numLeafNodes;
+	}
+
+	/** The number of positions visited by the last search, including leaves and re-searches */
+	public long getNumNodes() {
+		return numNodes;
+	}
+
+	public void setPrincipalVariationSearch(boolean usePrincipalVariationSearch) {
+		this.usePrincipalVariationSearch = usePrincipalVariationSearch;
+		copySettingsToHelpers();
+	}
+
+	/**
+	 * When searching with a time budget, search the root with a window this far either side of the
+	 * previous depth's score, and search again with a full window if the score falls outside it.
+	 * 0, the default, always uses a full window.
+	 */
+	public void setAspirationWindow(double aspirationWindow) {
+		if (aspirationWindow < 0) {
+			throw new RuntimeException("Aspiration window must be >= 0");
+		}
+		this.aspirationWindow = aspirationWindow;
+		copySettingsToHelpers();
+	}
+
+	/** Keep searching captures past the depth limit until the position is quiet. Off by default. */
+	public void setQuiescenceSearch(boolean useQuiescenceSearch) {
+		this.useQuiescenceSearch = useQuiescenceSearch;
+		copySettingsToHelpers();
+	}
+
+	/** The most positions one search may expand past the depth limit. After that, leaves are scored as they are. */
+	public void setQuiescenceNodeBudget(long quiescenceNodeBudget) {
+		if (quiescenceNodeBudget < 0) {
+			throw new RuntimeException("Quiescence node budget must be >= 0");
+		}
+		this.quiescenceNodeBudget = quiescenceNodeBudget;
+		copySettingsToHelpers();
+	}
+
+	/** The number of positions the last search expanded past the depth limit */
+	public long getNumQuiescenceNodes() {
+		return numQuiescenceNodes;
+	}
+
+	/**
+	 * Score positions in the tablebase with their exact result instead of searching them.
+	 * Wins score TABLEBASE_WIN_SCORE less the turns to the win, and finished games are scored on
+	 * the same scale. null, the default, turns this off.
+	 */
+	public void setTablebase(Tablebase<G> tablebase) {
+		this.tablebase = tablebase;
+		copySettingsToHelpers();
+	}
+
+	/** Play moves from the book in positions it has, instead of searching. null, the default, turns this off. */
+	public void setOpeningBook(OpeningBook<M, G> openingBook) {
+		this.openingBook = openingBook;
+	}
+
+	/** The number of positions the last search scored from the tablebase */
+	public long getNumTablebaseHits() {
+		return numTablebaseHits;
+	}
+
+	/** The number of times the last search's aspiration window missed and the root was searched again */
+	public int getNumAspirationResearches() {
+		return numAspirationResearches;
+	}
+
+	/** The depth of the last search that ran to completion */
+	public int getLastCompletedDepth() {
+		return lastCompletedDepth;
+	}
+
+	/** The root's score from the last search that ran to completion, for the player to move */
+	public double getLastScore() {
+		return lastScore;
+	}
+
+	/**
+	 * Limit the number of game tree nodes kept between searches. Below the root's children, a search
+	 * stops adding nodes when the limit is reached, and before each search the deepest levels of the
+	 * tree are dropped until it is at most half full.
+	 */
+	public void setMaxRetainedNodes(int maxRetainedNodes) {
+		if (maxRetainedNodes < 1) {
+			throw new RuntimeException("Max retained nodes must be >= 1");
+		}
+		this.maxRetainedNodes = maxRetainedNodes;
+		copySettingsToHelpers();
+	}
+
+	/** Store only the move in new game tree nodes below the root, and rebuild their games while searching */
+	public void setStoreOnlyMoves(boolean storeOnlyMoves) {
+		this.storeOnlyMoves = storeOnlyMoves;
+		copySettingsToHelpers();
+	}
+
+	/** The number of game tree nodes currently kept, including the root */
+	public int getNumRetainedNodes() {
+		return retainedNodes;
+	}
+
+	/** The total number of game tree nodes dropped to stay within the limit */
+	public long getNumEvictedNodes() {
+		return evictedNodes;
+	}
+
+	private void copySettingsToHelpers() {
+		if (helpers != null) {
+			for (ABPruningPlayer<M, G> helper : helpers) {
+				copySettingsTo(helper);
+			}
+		}
+	}
+
+	private void copySettingsTo(ABPruningPlayer<M, G> helper) {
+		helper.moveOrdering = moveOrdering.copySettings();
+		helper.maxRetainedNodes = maxRetainedNodes;
+		helper.storeOnlyMoves = storeOnlyMoves;
+		helper.usePrincipalVariationSearch = usePrincipalVariationSearch;
+		helper.aspirationWindow = aspirationWindow;
+		helper.useQuiescenceSearch = useQuiescenceSearch;
+		helper.quiescenceNodeBudget = quiescenceNodeBudget;
+		helper.tablebase = tablebase;
+	}
+
+	/** The fraction of cutoffs in the last search that came from the first move searched. Higher means better move ordering. */
+	public double getFirstMoveCutoffRate() {
+		return numCutoffs == 0 ? 0.0 : numFirstMoveCutoffs / (double) numCutoffs;
+	}
+
+	public int getNumCutoffs() {
+		return numCutoffs;
+	}
+
+	/** Set how moves are ordered. Turning off every heuristic still searches the transposition table's best move first. */
+	public void setMoveOrdering(MoveOrdering<M> moveOrdering) {
+		this.moveOrdering = moveOrdering;
+		copySettingsToHelpers();
+	}
+
+	public int getNumThreads() {
+		return numThreads;
+	}
+
+	public TranspositionTable<M> getTranspositionTable() {
+		return transpositionTable;
+	}
+
+	/** Thrown to unwind an iterative deepening search when its time is up */
+	private static final class SearchTimeoutException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		SearchTimeoutException() {
+			super(null, null, false, false);
+		}
+	}
+}
@@ -1,69 +1,117 @@
-package com.dillard.games;
-import java.util.ArrayList;
-import java.util.List;
-
-public class GameNode<M extends Move, G extends Game<M, G>> implements Comparable<GameNode<M, G>> {
-	private G game;
-	private M move;
-	private double score;
-	private List<GameNode<M, G>> children;
-
-	GameNode(G g, M m) {
-		game = g.clone();
-		move = m;
-		children = null;
-	}
-
-	public void addChild(GameNode<M, G> child) {
-		if (children == null) children = new ArrayList<GameNode<M, G>>();
-		children.add(child);
-	}
-
-	public GameNode<M, G> getChildForMove(M move) {
-	    if (children != null) {
-    	    for (var child : children) {
-    	        if (child.move.equals(move)) {
-    	            return child;
-    	        }
-    	    }
-	    }
-	    return null;
-	}
-
-	public List<GameNode<M, G>> getChildren() {
-		return children;
-	}
-	public void clearChildren() {
-		children = null;
-	}
-	public G getGame() {
-		return game;
-	}
-	public M getMove() {
-	    return move;
-	}
-	public double getScore() {
-		return score;
-	}
-	public void setScore(double score) {
-		this.score = score;
-	}
-
-	public int compareTo(GameNode<M, G> o) {
-		if(!(o instanceof GameNode)) throw new ClassCastException();
-
-		double scoreDiff = this.getScore() - o.getScore();
-		if(scoreDiff > 0) {
-			return 1;
-		}
-		else if(scoreDiff < 0) {
-			return -1;
-		}
-		else return 0;
-	}
-
-	@Override
-    public String toString() {
-		return game.toString() + "Score: " + getScore();
-	}
-}
+package com.dillard.games;
+import java.util.ArrayList;
+import java.util.List;
+
+public class GameNode<M extends Move, G extends Game<M, G>> implements Comparable<GameNode<M, G>> {
+	private G game; // null if this node only stores its move
+	private M move;
+	private double score;
+	private GameNode<M, G> parent;
+	private List<GameNode<M, G>> children;
+
+	GameNode(G g, M m) {
+		game = g.clone();
+		move = m;
+		children = null;
+	}
+
+	/** A node that stores only its move. Its game is rebuilt from its ancestors when it is asked for. */
+	GameNode(M m) {
+		game = null;
+		move = m;
+		children = null;
+	}
+
+	public void addChild(GameNode<M, G> child) {
+		if (children == null) children = new ArrayList<GameNode<M, G>>();
+		child.parent = this;
+		children.add(child);
+	}
+
+	public GameNode<M, G> getChildForMove(M move) {
+	    if (children != null) {
+    	    for (var child : children) {
+    	        if (child.move.equals(move)) {
+    	            return child;
+    	        }
+    	    }
+	    }
+	    return null;
+	}
+
+	public List<GameNode<M, G>> getChildren() {
+		return children;
+	}
+	public void clearChildren() {
+		children = null;
+	}
+	/**
+	 * For a node that only stores its move, this rebuilds a new copy of the game on each call,
+	 * starting from the nearest ancestor that stores one.
+	 */
+	public G getGame() {
+		return game != null ? game : rebuildGame();
+	}
+
+	private G rebuildGame() {
+		if (game != null) {
+			return game.clone();
+		}
+		if (parent == null) {
+			throw new RuntimeException("Cannot rebuild the game of a node that has no parent");
+		}
+		G rebuilt = parent.rebuildGame();
+		rebuilt.move(move);
+		return rebuilt;
+	}
+
+	public boolean storesGame() {
+		return game != null;
+	}
+
+	/** Make this node the root of its own tree, so that its ancestors can be garbage collected */
+	public void detachFromParent() {
+		if (game == null) {
+			game = rebuildGame();
+		}
+		parent = null;
+	}
+
+	/** The number of nodes in the tree rooted at this node */
+	public int countNodes() {
+		int count = 1;
+		if (children != null) {
+			for (GameNode<M, G> child : children) {
+				count += child.countNodes();
+			}
+		}
+		return count;
+	}
+	public M getMove() {
+	    return move;
+	}
+	public double getScore() {
+		return score;
+	}
+	public void setScore(double score) {
+		this.score = score;
+	}
+
+	public int compareTo(GameNode<M, G> o) {
+		if(!(o instanceof GameNode)) throw new ClassCastException();
+
+		double scoreDiff = this.getScore() - o.getScore();
+		if(scoreDiff > 0) {
+			return 1;
+		}
+		else if(scoreDiff < 0) {
+			return -1;
+		}
+		else return 0;
+	}
+
+	@Override
+    public String toString() {
+		return getGame().toString() + "Score: " + getScore();
+	}
+}
@@ -1,5 +1,5 @@
-package com.dillard.games;
-
-public interface GamePlayer<M extends Move, G extends Game<M, G>> {
-	M move(G theGame) ;
-}
+package com.dillard.games;
+
+public interface GamePlayer<M extends Move, G extends Game<M, G>> {
+	M move(G theGame) ;
+}
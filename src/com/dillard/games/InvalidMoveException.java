@@ -1,17 +1,17 @@
-package com.dillard.games;
-
-public class InvalidMoveException extends RuntimeException {
-    private static final long serialVersionUID = 1L;
-
-    public InvalidMoveException(String s) {
-		super(s);
-	}
-
-	public InvalidMoveException() {
-		super();
-	}
-
-	public InvalidMoveException(Exception e) {
-		super(e);
-	}
-}
+package com.dillard.games;
+
+public class InvalidMoveException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public InvalidMoveException(String s) {
+		super(s);
+	}
+
+	public InvalidMoveException() {
+		super();
+	}
+
+	public InvalidMoveException(Exception e) {
+		super(e);
+	}
+}
@@ -1,181 +1,223 @@
-package com.dillard.games;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Iterator;
-import java.util.List;
-
-public class MinimaxPlayer<M extends Move, G extends Game<M, G>> implements GamePlayer<M, G> {
-	GameTree<M, G> gameTree;
-	boolean isPlayer1;
-	boolean minimaxValuesAlreadyCreated = false;
-
-	public M move(G game) {
-
-		if (!(game instanceof SuccessorAwareGame)) {
-			throw new RuntimeException("Minimax player can only play SuccessorAwareGames");
-		}
-		SuccessorAwareGame theGame = (SuccessorAwareGame) game;
-
-		GameNode<M, G> head;
-		isPlayer1 = theGame.isPlayer1Turn();
-
-		if(gameTree == null) {
-			gameTree = new GameTree<M, G>(new GameNode<M, G>((G) theGame, null));
-		}
-		else {
-			// Find the correct branch of the existing game tree and reuse it
-			List<GameNode<M, G>> children;
-			boolean movedHead;
-			do {
-				movedHead = false;
-				children = gameTree.getHead().getChildren();
-
-				for(int i=0; i<children.size(); i++) {
-					if(theGame.isSuccessor(children.get(i).getGame())) {
-						gameTree.setHead(children.get(i));
-						movedHead = true;
-						minimaxValuesAlreadyCreated = true;
-						break;
-					}
-				}
-			}while(!(gameTree.getHead().getGame().equals(theGame)) && movedHead);
-		}
-
-		head = gameTree.getHead();
-
-		// Set the minimax value for each move
-		if(!minimaxValuesAlreadyCreated) setMinimaxValue(head);
-
-		// return the highest valued move
-		Iterator<GameNode<M, G>> itr = gameTree.getHead().getChildren().iterator();
-		List<M> moves = head.getGame().getMoves();
-		int i=0;
-		GameNode<M, G> node;
-		double highScore = -Double.MAX_VALUE;
-
-		while(itr.hasNext()) {
-			node = itr.next();
-			if(node.getScore() > highScore) {
-				highScore = node.getScore();
-			}
-			i++;
-		}
-
-		// Make a list of all moves that result in the high score
-		itr = gameTree.getHead().getChildren().iterator();
-		i=0;
-		List<M> highScoreMoveList = new ArrayList<M>();
-
-		while(itr.hasNext()) {
-			node = itr.next();
-			if(node.getScore() == highScore) {
-				highScoreMoveList.add(moves.get(i));
-			}
-			i++;
-		}
-
-		// Pick one move at random from that list
-		int highScoreMoveIndex = (int) (Math.random() * highScoreMoveList.size());
-		return highScoreMoveList.get(highScoreMoveIndex);
-	}
-
-
-
-	private void setMinimaxValue(GameNode<M, G> gameNode) {
-		G theGame = gameNode.getGame();
-		// If terminated, then return score
-		if(theGame.isTerminated()) {
-			gameNode.setScore(theGame.getFinalScore(isPlayer1));
-			return;
-		}
-
-		List<M> moves = theGame.getMoves();
-		G tempGame;
-		GameNode<M, G> addedNode;
-
-
-		// Calculate the minimax value of all available moves
-		for(M m: moves) {
-			tempGame = theGame.clone();
-			try{
-				tempGame.move(m);
-			} catch(InvalidMoveException exc) {
-				throw new IllegalArgumentException();
-				//continue;
-			}
-			addedNode = new GameNode<M, G>(tempGame, m);
-			gameNode.addChild(addedNode);
-//			addedNode.setScore(minimaxValue(addedNode));
-			setMinimaxValue(addedNode);
-		}
-
-		// If my turn, return highest value of all of next moves
-		if(theGame.isPlayer1Turn() == isPlayer1) {
-			gameNode.setScore(Collections.max(gameNode.getChildren()).getScore());
-			return;
-		}
-		// else (not my turn), return lowest value of all of next moves
-		else {
-			gameNode.setScore(Collections.min(gameNode.getChildren()).getScore());
-			return;
-		}
-
-
-//		Game theGame = currentNode.getGame();
-//		Game tempGame;
-//
-//		// For each move
-//		for(int i=0; i<moves.length; i++) {
-//			// the value of the move = minimaxValue(the game after move applied)
-//			tempGame = theGame.clone();
-//
-//			try{
-//				tempGame.move(moves[i]);
-//			} catch(InvalidMoveException exc) {
-//				throw new IllegalArgumentException();
-//				//continue;
-//			}
-//			GameNode addedNode = gameTree.addChild(currentNode, tempGame);
-//			addedNode.setScore(minimaxValue(addedNode));
-//		}
-	}
-
-//	private double minimaxValue(GameNode gameNode) {
-//		Game theGame = gameNode.getGame();
-//		// If terminated, then return score
-//		if(theGame.isTerminated()) {
-//			return theGame.getScore(isPlayer1);
-//		}
-//
-//		Object[] moves = theGame.getMoves();
-//		Game tempGame;
-//		GameNode addedNode;
-//
-//
-//		// Calculate the minimax value of all available moves
-//		for(Object m: moves) {
-//			tempGame = theGame.clone();
-//			try{
-//				tempGame.move(m);
-//			} catch(InvalidMoveException exc) {
-//				throw new IllegalArgumentException();
-//				//continue;
-//			}
-//			addedNode = new GameNode(tempGame);
-//			gameNode.addChild(addedNode);
-//			addedNode.setScore(minimaxValue(addedNode));
-//		}
-//
-//		// If my turn, return highest value of all of next moves
-//		if(theGame.player1Turn() == isPlayer1) {
-//			return Collections.max(gameNode.getChildren()).getScore();
-//		}
-//		// else (not my turn), return lowest value of all of next moves
-//		else {
-//			return Collections.min(gameNode.getChildren()).getScore();
-//		}
-//	}
-
-
-
-}
+package com.dillard.games;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class MinimaxPlayer<M extends Move, G extends Game<M, G>> implements GamePlayer<M, G> {
+	// Depth of a score that holds however deep we search, because every line below it reached the end of the game
+	private static final int RESOLVED_DEPTH = Integer.MAX_VALUE;
+	// Marks a node whose score is being computed, so that a repeated position does not recurse forever
+	private static final int IN_PROGRESS = -1;
+
+	GameTree<M, G> gameTree;
+	boolean isPlayer1;
+	private final int turnDepthLimit;
+
+	// Every node in the tree by position hash, so the current position is found without searching the tree,
+	// and positions reached by different move orders share one node
+	private final Map<Long, GameNode<M, G>> positionIndex = new HashMap<>();
+	// How deep each node's score was searched
+	private final Map<GameNode<M, G>, Integer> scoredDepths = new IdentityHashMap<>();
+
+	/** Search every line to the end of the game */
+	public MinimaxPlayer() {
+		this(RESOLVED_DEPTH);
+	}
+
+	/**
+	 * Search turnDepthLim turns ahead, expanding the tree only as far as needed.
+	 * The tree is kept between moves, so each move only expands the new frontier.
+	 */
+	public MinimaxPlayer(int turnDepthLim) {
+		if (turnDepthLim < 1) {
+			throw new RuntimeException("Turn depth limit must be >= 1");
+		}
+		this.turnDepthLimit = turnDepthLim;
+	}
+
+	public M move(G theGame) {
+		// Scores are from our own perspective, so they are no good if we switch sides
+		if (gameTree != null && isPlayer1 != theGame.isPlayer1Turn()) {
+			scoredDepths.clear();
+		}
+		isPlayer1 = theGame.isPlayer1Turn();
+
+		// Find the current position in the existing game tree and reuse it
+		GameNode<M, G> head = positionIndex.get(theGame.positionHash());
+		if (head == null) {
+			positionIndex.clear();
+			scoredDepths.clear();
+			head = new GameNode<M, G>(theGame, null);
+			positionIndex.put(theGame.positionHash(), head);
+			gameTree = new GameTree<M, G>(head);
+		} else {
+			gameTree.setHead(head);
+		}
+
+		// Set the minimax value for each move.
+		// Children are in the same order as the moves.
+		if (head.getChildren() == null) {
+			expand(head);
+		}
+		List<GameNode<M, G>> children = head.getChildren();
+		List<M> moves = head.getGame().getMoves();
+		int childDepth = turnDepthLimit == RESOLVED_DEPTH ? RESOLVED_DEPTH : turnDepthLimit - 1;
+		double[] scores = new double[children.size()];
+		double highScore = -Double.MAX_VALUE;
+		for (int i=0; i<children.size(); i++) {
+			scores[i] = minimaxValue(children.get(i), childDepth);
+			if (scores[i] > highScore) {
+				highScore = scores[i];
+			}
+		}
+
+		// Make a list of all moves that result in the high score
+		List<M> highScoreMoveList = new ArrayList<M>();
+		for (int i=0; i<children.size(); i++) {
+			if (scores[i] == highScore) {
+				highScoreMoveList.add(moves.get(i));
+			}
+		}
+
+		// Pick one move at random from that list
+		int highScoreMoveIndex = (int) (Math.random() * highScoreMoveList.size());
+		return highScoreMoveList.get(highScoreMoveIndex);
+	}
+
+	/** Score the node by searching depthRemaining turns below it, reusing scores that were already searched deeply enough */
+	private double minimaxValue(GameNode<M, G> gameNode, int depthRemaining) {
+		Integer scoredDepth = scoredDepths.get(gameNode);
+		if (scoredDepth != null) {
+			if (scoredDepth == IN_PROGRESS) {
+				// This position repeats one of its ancestors. Score it without looking further.
+				return gameNode.getGame().evaluate(isPlayer1);
+			}
+			if (scoredDepth >= depthRemaining) {
+				return gameNode.getScore();
+			}
+		}
+
+		G theGame = gameNode.getGame();
+		double score;
+		int depth;
+		// If terminated, then return score
+		if(theGame.isTerminated()) {
+			score = theGame.getFinalScore(isPlayer1);
+			depth = RESOLVED_DEPTH;
+		} else if (depthRemaining == 0) {
+			score = theGame.evaluate(isPlayer1);
+			depth = 0;
+		} else {
+			if (gameNode.getChildren() == null) {
+				expand(gameNode);
+			}
+			scoredDepths.put(gameNode, IN_PROGRESS);
+
+			// If my turn, take the highest value of all of next moves,
+			// else (not my turn), take the lowest value of all of next moves
+			boolean maximize = theGame.isPlayer1Turn() == isPlayer1;
+			score = maximize ? -Double.MAX_VALUE : Double.MAX_VALUE;
+			depth = RESOLVED_DEPTH;
+			for (GameNode<M, G> child : gameNode.getChildren()) {
+				double childScore = minimaxValue(child, depthRemaining == RESOLVED_DEPTH ? RESOLVED_DEPTH : depthRemaining - 1);
+				// Shared children can be rescored deeper while searching a sibling, so keep the score they had for this search
+				child.setScore(childScore);
+				score = maximize ? Math.max(score, childScore) : Math.min(score, childScore);
+				Integer childDepth = scoredDepths.get(child);
+				if (childDepth == null || childDepth == IN_PROGRESS) {
+					depth = 0;
+				} else if (childDepth != RESOLVED_DEPTH) {
+					depth = Math.min(depth, childDepth + 1);
+				}
+			}
+		}
+
+		gameNode.setScore(score);
+		scoredDepths.put(gameNode, depth);
+		return score;
+	}
+
+	/** Add a child for each move, in the same order as the moves. Positions already in the tree are shared. */
+	private void expand(GameNode<M, G> gameNode) {
+		G theGame = gameNode.getGame();
+		for (M m : theGame.getMoves()) {
+			GameNode<M, G> child;
+			try {
+				if (theGame instanceof UndoableGame) {
+					// Look the position up before copying it
+					@SuppressWarnings("unchecked")
+					UndoableGame<M, G> undoableGame = (UndoableGame<M, G>) theGame;
+					Object undoToken = undoableGame.doMove(m);
+					try {
+						child = findOrCreateNode(theGame, m);
+					} finally {
+						undoableGame.undoMove(undoToken);
+					}
+				} else {
+					G tempGame = theGame.clone();
+					tempGame.move(m);
+					child = findOrCreateNode(tempGame, m);
+				}
+			} catch(InvalidMoveException exc) {
+				throw new IllegalArgumentException();
+			}
+			gameNode.addChild(child);
+		}
+	}
+
+	private GameNode<M, G> findOrCreateNode(G theGame, M m) {
+		long positionHash = theGame.positionHash();
+		GameNode<M, G> node = positionIndex.get(positionHash);
+		if (node == null) {
+			node = new GameNode<M, G>(theGame, m);
+			positionIndex.put(positionHash, node);
+		}
+		return node;
+	}
+
+	/** The number of distinct positions in the retained tree */
+	public int getNumIndexedPositions() {
+		return positionIndex.size();
+	}
+
+//	private double minimaxValue(GameNode gameNode) {
+//		Game theGame = gameNode.getGame();
+//		// If terminated, then return score
+//		if(theGame.isTerminated()) {
+//			return theGame.getScore(isPlayer1);
+//		}
+//
+//		Object[] moves = theGame.getMoves();
+//		Game tempGame;
+//		GameNode addedNode;
+//
+//
+//		// Calculate the minimax value of all available moves
+//		for(Object m: moves) {
+//			tempGame = theGame.clone();
+//			try{
+//				tempGame.move(m);
+//			} catch(InvalidMoveException exc) {
+//				throw new IllegalArgumentException();
+//				//continue;
+//			}
+//			addedNode = new GameNode(tempGame);
+//			gameNode.addChild(addedNode);
+//			addedNode.setScore(minimaxValue(addedNode));
+//		}
+//
+//		// If my turn, return highest value of all of next moves
+//		if(theGame.player1Turn() == isPlayer1) {
+//			return Collections.max(gameNode.getChildren()).getScore();
+//		}
+//		// else (not my turn), return lowest value of all of next moves
+//		else {
+//			return Collections.min(gameNode.getChildren()).getScore();
+//		}
+//	}
+
+
+
+}
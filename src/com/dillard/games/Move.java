@@ -1,5 +1,9 @@
-package com.dillard.games;
-
-public interface Move {
-
-}
+package com.dillard.games;
+
+public interface Move {
+
+	/** Whether this move captures something. Captures are searched first by ABPruningPlayer. */
+	default boolean isCapture() {
+		return false;
+	}
+}
@@ -0,0 +1,146 @@
+package com.dillard.games;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Orders moves for alpha-beta search so that the moves most likely to cause a cutoff are searched first:
+ * the best move from the transposition table, then captures, then killer moves (moves that caused a cutoff
+ * at the same depth elsewhere in the tree), then the rest by their history of causing cutoffs.
+ * Each searching thread needs its own instance.
+ */
+public class MoveOrdering<M extends Move> {
+	private static final int KILLERS_PER_PLY = 2;
+	private static final long MAX_HISTORY = (1L << 40) - 1;
+	private static final int MAX_MOVES = 1 << 16;
+
+	private static final long HASH_MOVE_CLASS = 4;
+	private static final long CAPTURE_CLASS = 3;
+	private static final long FIRST_KILLER_CLASS = 2;
+
+	private final boolean useCaptures;
+	private final boolean useKillers;
+	private final boolean useHistory;
+
+	private Object[][] killers = new Object[64][KILLERS_PER_PLY];
+	private final Map<M, long[]> history = new HashMap<>();
+
+	/** Use every heuristic */
+	public MoveOrdering() {
+		this(true, true, true);
+	}
+
+	/** The hash move always goes first. The other heuristics can be turned off. */
+	public MoveOrdering(boolean useCaptures, boolean useKillers, boolean useHistory) {
+		this.useCaptures = useCaptures;
+		this.useKillers = useKillers;
+		this.useHistory = useHistory;
+	}
+
+	/** A new instance with the same settings, for another thread */
+	public MoveOrdering<M> copySettings() {
+		return new MoveOrdering<M>(useCaptures, useKillers, useHistory);
+	}
+
+	/**
+	 * Return the moves in the order they should be searched. The list passed in is not modified,
+	 * since the game may hand out its own list.
+	 * @param hashMove the best move found by an earlier search of this position, or null
+	 * @param ply how many moves from the root this position is
+	 */
+	public List<M> order(List<M> moves, M hashMove, int ply) {
+		if (!useCaptures && !useKillers && !useHistory) {
+			return hashMoveFirst(moves, hashMove);
+		}
+		int n = moves.size();
+		if (n < 2 || n > MAX_MOVES) {
+			return hashMoveFirst(moves, hashMove);
+		}
+
+		// Sort keys hold the heuristic class, then the history score, then the position in the move list
+		// so that moves that are otherwise equal keep the order the game generated them in.
+		Object[] plyKillers = useKillers && ply < killers.length ? killers[ply] : null;
+		long[] keys = new long[n];
+		for (int i=0; i<n; i++) {
+			M move = moves.get(i);
+			long moveClass = 0;
+			if (move.equals(hashMove)) {
+				moveClass = HASH_MOVE_CLASS;
+			} else if (useCaptures && move.isCapture()) {
+				moveClass = CAPTURE_CLASS;
+			} else if (plyKillers != null) {
+				for (int k=0; k<KILLERS_PER_PLY; k++) {
+					if (move.equals(plyKillers[k])) {
+						moveClass = FIRST_KILLER_CLASS - k;
+						break;
+					}
+				}
+			}
+			long historyScore = useHistory ? historyScore(move) : 0;
+			keys[i] = (moveClass << 56) | (historyScore << 16) | (MAX_MOVES - 1 - i);
+		}
+		Arrays.sort(keys);
+
+		List<M> ordered = new ArrayList<>(n);
+		for (int i=n-1; i>=0; i--) {
+			ordered.add(moves.get(MAX_MOVES - 1 - (int) (keys[i] & (MAX_MOVES - 1))));
+		}
+		return ordered;
+	}
+
+	private List<M> hashMoveFirst(List<M> moves, M hashMove) {
+		if (hashMove == null) {
+			return moves;
+		}
+		int hashMoveIndex = moves.indexOf(hashMove);
+		if (hashMoveIndex <= 0) {
+			return moves;
+		}
+		List<M> ordered = new ArrayList<>(moves);
+		ordered.add(0, ordered.remove(hashMoveIndex));
+		return ordered;
+	}
+
+	private long historyScore(M move) {
+		long[] score = history.get(move);
+		return score == null ? 0 : score[0];
+	}
+
+	/**
+	 * Record that a move caused a cutoff.
+	 * @param remainingDepth how many more turns the search below this position would have gone
+	 */
+	public void recordCutoff(M move, int ply, int remainingDepth) {
+		if (useKillers && !(useCaptures && move.isCapture())) {
+			if (ply >= killers.length) {
+				int oldLength = killers.length;
+				killers = Arrays.copyOf(killers, Math.max(ply + 1, oldLength * 2));
+				for (int i=oldLength; i<killers.length; i++) {
+					killers[i] = new Object[KILLERS_PER_PLY];
+				}
+			}
+			Object[] plyKillers = killers[ply];
+			if (!move.equals(plyKillers[0])) {
+				System.arraycopy(plyKillers, 0, plyKillers, 1, KILLERS_PER_PLY - 1);
+				plyKillers[0] = move;
+			}
+		}
+		if (useHistory) {
+			long[] score = history.computeIfAbsent(move, m -> new long[1]);
+			score[0] = Math.min(MAX_HISTORY, score[0] + (long) remainingDepth * remainingDepth);
+		}
+	}
+
+	/** Forget the killer moves, which belong to the last position searched, and age the history scores */
+	public void newSearch() {
+		for (Object[] plyKillers : killers) {
+			Arrays.fill(plyKillers, null);
+		}
+		for (long[] score : history.values()) {
+			score[0] >>= 1;
+		}
+	}
+}
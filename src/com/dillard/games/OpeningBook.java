@@ -0,0 +1,137 @@
+package com.dillard.games;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Opening moves chosen from the statistics of earlier games, memory-mapped from a file
+ * written by OpeningBookBuilder. Positions are looked up by Game.positionHash(), so the
+ * hash must be the same from one run to the next. Moves are stored as their index in getMoves().
+ *
+ * The file holds entries sorted by position hash, one per move played from the position,
+ * with the number of games the move was played in and the mean final score for the player who played it.
+ * A lookup is a binary search over the entries.
+ */
+public class OpeningBook<M extends Move, G extends Game<M, G>> {
+	static final int MAGIC = 0x4f424f4b; // "OBOK"
+	static final int VERSION = 1;
+	static final int HEADER_BYTES = 12;
+	static final int ENTRY_BYTES = 20;
+
+	private final MappedByteBuffer entries;
+	private final int numEntries;
+	private boolean stochastic = false;
+
+	private OpeningBook(MappedByteBuffer entries, int numEntries) {
+		this.entries = entries;
+		this.numEntries = numEntries;
+	}
+
+	public static <M extends Move, G extends Game<M, G>> OpeningBook<M, G> load(File file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+				throw new IOException("Not an opening book file: " + file);
+			}
+			int numEntries = buffer.getInt(8);
+			return new OpeningBook<M, G>(buffer, numEntries);
+		}
+	}
+
+	/**
+	 * The book move for this position, or null if the position is not in the book.
+	 * Normally the move played in the most games. In stochastic mode, a move chosen at random
+	 * in proportion to the number of games it was played in.
+	 */
+	public M move(G game, Random random) {
+		int first = firstEntry(game.positionHash());
+		if (first < 0) {
+			return null;
+		}
+		List<M> moves = game.getMoves();
+		int end = first;
+		long totalGames = 0;
+		while (end < numEntries && hash(end) == hash(first)) {
+			if (moveIndex(end) >= moves.size()) {
+				// a different position with the same hash
+				return null;
+			}
+			totalGames += numGames(end);
+			end++;
+		}
+
+		int chosen = first;
+		if (stochastic) {
+			long pick = (long) (random.nextDouble() * totalGames);
+			for (int i=first; i<end; i++) {
+				pick -= numGames(i);
+				if (pick < 0) {
+					chosen = i;
+					break;
+				}
+			}
+		} else {
+			for (int i=first+1; i<end; i++) {
+				if (numGames(i) > numGames(chosen)
+						|| (numGames(i) == numGames(chosen) && meanScore(i) > meanScore(chosen))) {
+					chosen = i;
+				}
+			}
+		}
+		return moves.get(moveIndex(chosen));
+	}
+
+	/** Whether the position is in the book */
+	public boolean contains(G game) {
+		return firstEntry(game.positionHash()) >= 0;
+	}
+
+	/** Choose book moves at random in proportion to how often they were played, to keep games diverse */
+	public void setStochastic(boolean stochastic) {
+		this.stochastic = stochastic;
+	}
+
+	public boolean isStochastic() {
+		return stochastic;
+	}
+
+	/** The number of position and move pairs in the book */
+	public int getNumEntries() {
+		return numEntries;
+	}
+
+	/** Index of the first entry for the position, or -1 */
+	private int firstEntry(long positionHash) {
+		int low = 0, high = numEntries;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (hash(mid) < positionHash) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low < numEntries && hash(low) == positionHash ? low : -1;
+	}
+
+	private long hash(int entry) {
+		return entries.getLong(HEADER_BYTES + entry * ENTRY_BYTES);
+	}
+
+	private int moveIndex(int entry) {
+		return entries.getInt(HEADER_BYTES + entry * ENTRY_BYTES + 8);
+	}
+
+	private int numGames(int entry) {
+		return entries.getInt(HEADER_BYTES + entry * ENTRY_BYTES + 12);
+	}
+
+	private float meanScore(int entry) {
+		return entries.getFloat(HEADER_BYTES + entry * ENTRY_BYTES + 16);
+	}
+}
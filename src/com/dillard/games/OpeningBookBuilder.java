@@ -0,0 +1,99 @@
+package com.dillard.games;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Collects the moves played in the first turns of recorded games, and writes them out as an OpeningBook.
+ * Games can be added from several threads.
+ */
+public class OpeningBookBuilder<M extends Move, G extends Game<M, G>> {
+	private final int maxPlies;
+	// position hash -> move index -> {games, total score for the player who moved}
+	private final Map<Long, Map<Integer, double[]>> positions = new HashMap<>();
+	private int numGames = 0;
+
+	/** @param maxPlies the number of moves at the start of each game to record */
+	public OpeningBookBuilder(int maxPlies) {
+		if (maxPlies < 1) {
+			throw new RuntimeException("Max plies must be >= 1");
+		}
+		this.maxPlies = maxPlies;
+	}
+
+	/**
+	 * Record a game.
+	 * @param startingGame the position the game started from. It is not modified.
+	 * @param moves the moves played, in order
+	 * @param player1Score the final score of the game for player 1
+	 */
+	public synchronized void addGame(G startingGame, List<M> moves, double player1Score) {
+		G game = startingGame.clone();
+		for (int ply=0; ply<maxPlies && ply<moves.size(); ply++) {
+			M move = moves.get(ply);
+			int moveIndex = game.getMoves().indexOf(move);
+			if (moveIndex < 0) {
+				throw new RuntimeException("Move is not legal in the recorded game: " + move);
+			}
+			double score = game.isPlayer1Turn() ? player1Score : -player1Score;
+			double[] stats = positions.computeIfAbsent(game.positionHash(), h -> new HashMap<>())
+					.computeIfAbsent(moveIndex, i -> new double[2]);
+			stats[0]++;
+			stats[1] += score;
+			game.move(move);
+		}
+		numGames++;
+	}
+
+	public synchronized int getNumGames() {
+		return numGames;
+	}
+
+	public synchronized int getNumPositions() {
+		return positions.size();
+	}
+
+	/**
+	 * Write the book, leaving out positions reached in fewer than minGames games,
+	 * since their statistics are mostly noise.
+	 */
+	public synchronized void write(File file, int minGames) throws IOException {
+		// sorted by position hash, for binary search
+		TreeMap<Long, Map<Integer, double[]>> sorted = new TreeMap<>();
+		for (var position : positions.entrySet()) {
+			int games = 0;
+			for (double[] stats : position.getValue().values()) {
+				games += (int) stats[0];
+			}
+			if (games >= minGames) {
+				sorted.put(position.getKey(), new TreeMap<>(position.getValue()));
+			}
+		}
+		int numEntries = 0;
+		for (var moves : sorted.values()) {
+			numEntries += moves.size();
+		}
+
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			out.writeInt(OpeningBook.MAGIC);
+			out.writeInt(OpeningBook.VERSION);
+			out.writeInt(numEntries);
+			for (var position : sorted.entrySet()) {
+				for (var move : position.getValue().entrySet()) {
+					double[] stats = move.getValue();
+					out.writeLong(position.getKey());
+					out.writeInt(move.getKey());
+					out.writeInt((int) stats[0]);
+					out.writeFloat((float) (stats[1] / stats[0]));
+				}
+			}
+		}
+	}
+}
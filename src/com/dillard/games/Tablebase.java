@@ -0,0 +1,17 @@
+package com.dillard.games;
+
+/**
+ * Precomputed game-theoretic results for positions, usually endgames.
+ * Results ignore any draw rules that depend on the history of the game.
+ */
+public interface Tablebase<G> {
+
+	/**
+	 * Return the result with best play for the specified player, on the same scale as
+	 * Game.getFinalScore (1 win, -1 loss, 0 draw), or NaN if the position is not in the tablebase.
+	 */
+	double probe(G game, boolean player1);
+
+	/** The number of turns until the game is won or lost with best play. Only valid for a position that probes as a win or loss. */
+	int turnsToEnd(G game);
+}
@@ -0,0 +1,146 @@
+package com.dillard.games;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size transposition table for alpha-beta search, indexed by Game.positionHash().
+ * Each slot holds one entry. A new entry replaces the existing one if the existing one
+ * came from an older search, or if the new one was searched at least as deep.
+ *
+ * The table can be shared by several searching threads without locks. Each entry is stored
+ * as three longs: the key xor'd with the other two, the score, and the depth, generation and bound type.
+ * A probe checks the key against the other two words, so an entry that is torn by a concurrent
+ * write looks like a miss rather than a wrong score.
+ */
+public class TranspositionTable<M extends Move> {
+	public static final byte EXACT = 0;
+	public static final byte LOWER_BOUND = 1;
+	public static final byte UPPER_BOUND = 2;
+
+	private static final int ENTRY_LONGS = 3;
+	private static final int GENERATION_MASK = 0xFFFFFF;
+
+	private final int mask;
+	private final long[] entries;
+	// Best moves are only used to order moves, so they need not agree with the rest of the entry
+	private final Object[] bestMoves;
+	private int generation = 1;
+
+	// Approximate when the table is shared between threads
+	private long probes = 0, hits = 0;
+
+	/** The result of a probe. Each searching thread should use its own. */
+	public static final class Entry<M extends Move> {
+		public double score;
+		public int depth;
+		public byte boundType;
+		public M bestMove;
+	}
+
+	/** @param size number of entries. Rounded up to a power of 2. */
+	public TranspositionTable(int size) {
+		if (size < 1) {
+			throw new IllegalArgumentException("Transposition table size must be >= 1");
+		}
+		int capacity = Integer.highestOneBit(size);
+		if (capacity < size) {
+			capacity <<= 1;
+		}
+		mask = capacity - 1;
+		entries = new long[capacity * ENTRY_LONGS];
+		bestMoves = new Object[capacity];
+	}
+
+	/** Copy the entry for the specified position into entry. Return false if it is not in the table. */
+	@SuppressWarnings("unchecked")
+	public boolean probe(long key, Entry<M> entry) {
+		probes++;
+		int slot = slot(key);
+		int i = slot * ENTRY_LONGS;
+		long scoreBits = entries[i + 1];
+		long info = entries[i + 2];
+		if (info == 0 || (entries[i] ^ scoreBits ^ info) != key) {
+			return false;
+		}
+		hits++;
+		entry.score = Double.longBitsToDouble(scoreBits);
+		entry.depth = depth(info);
+		entry.boundType = boundType(info);
+		entry.bestMove = (M) bestMoves[slot];
+		return true;
+	}
+
+	public void store(long key, int depth, byte boundType, double score, M bestMove) {
+		int slot = slot(key);
+		int i = slot * ENTRY_LONGS;
+		long oldScoreBits = entries[i + 1];
+		long oldInfo = entries[i + 2];
+		if (oldInfo != 0) {
+			boolean sameKey = (entries[i] ^ oldScoreBits ^ oldInfo) == key;
+			if (!sameKey && generation(oldInfo) == generation && depth(oldInfo) > depth) {
+				// keep the deeper entry from the current search
+				return;
+			}
+			if (sameKey && depth(oldInfo) > depth) {
+				// a shallower result for the same position is only useful for its best move
+				if (bestMove != null) {
+					bestMoves[slot] = bestMove;
+				}
+				write(i, key, oldScoreBits, pack(depth(oldInfo), boundType(oldInfo)));
+				return;
+			}
+		}
+		bestMoves[slot] = bestMove;
+		write(i, key, Double.doubleToRawLongBits(score), pack(depth, boundType));
+	}
+
+	private void write(int i, long key, long scoreBits, long info) {
+		entries[i + 1] = scoreBits;
+		entries[i + 2] = info;
+		entries[i] = key ^ scoreBits ^ info;
+	}
+
+	private int slot(long key) {
+		return (int) (key ^ (key >>> 32)) & mask;
+	}
+
+	private long pack(int depth, byte boundType) {
+		return ((long) depth << 32) | ((long) generation << 8) | boundType;
+	}
+
+	private static int depth(long info) {
+		return (int) (info >>> 32);
+	}
+
+	private static int generation(long info) {
+		return (int) (info >>> 8) & GENERATION_MASK;
+	}
+
+	private static byte boundType(long info) {
+		return (byte) info;
+	}
+
+	/**
+	 * Mark the start of a new search. Entries from older searches become the first to be replaced.
+	 * Must not be called while other threads are using the table.
+	 */
+	public void newSearch() {
+		generation = generation == GENERATION_MASK ? 1 : generation + 1;
+	}
+
+	/** Must not be called while other threads are using the table. */
+	public void clear() {
+		Arrays.fill(entries, 0);
+		Arrays.fill(bestMoves, null);
+		generation = 1;
+		probes = hits = 0;
+	}
+
+	public int size() {
+		return bestMoves.length;
+	}
+
+	public double getHitRate() {
+		return probes == 0 ? 0.0 : hits / (double) probes;
+	}
+}
@@ -0,0 +1,79 @@
+package com.dillard.games;
+
+import java.lang.reflect.Field;
+
+public class TranspositionTableTest {
+	// keys 1 and 5 share a slot in a table of 4 entries
+	private static final long KEY = 1;
+	private static final long SAME_SLOT_KEY = 5;
+
+	private static final Move MOVE = new Move() {};
+	private static final Move OTHER_MOVE = new Move() {};
+
+	public static void main(String[] args) throws Exception {
+		testStoreAndProbe();
+
+		testDepthPreferredReplacement();
+
+		testTornEntry();
+
+		System.out.println("Everything OK.");
+	}
+
+	private static void testStoreAndProbe() {
+		TranspositionTable<Move> table = new TranspositionTable<>(4);
+		TranspositionTable.Entry<Move> entry = new TranspositionTable.Entry<>();
+		assertTrue(!table.probe(KEY, entry), "Empty table misses");
+
+		table.store(KEY, 3, TranspositionTable.LOWER_BOUND, 1.5, MOVE);
+		assertTrue(table.probe(KEY, entry), "Stored entry is found");
+		assertTrue(entry.depth == 3 && entry.boundType == TranspositionTable.LOWER_BOUND && entry.score == 1.5
+				&& entry.bestMove == MOVE, "Entry comes back as stored");
+		assertTrue(!table.probe(SAME_SLOT_KEY, entry), "Another position in the same slot misses");
+		assertTrue(!table.probe(2, entry), "A position in an empty slot misses");
+	}
+
+	private static void testDepthPreferredReplacement() {
+		TranspositionTable<Move> table = new TranspositionTable<>(4);
+		TranspositionTable.Entry<Move> entry = new TranspositionTable.Entry<>();
+
+		table.store(KEY, 5, TranspositionTable.EXACT, 1.0, MOVE);
+		table.store(SAME_SLOT_KEY, 2, TranspositionTable.EXACT, 2.0, OTHER_MOVE);
+		assertTrue(table.probe(KEY, entry) && entry.depth == 5, "A shallower entry from the same search doesn't replace a deeper one");
+		assertTrue(!table.probe(SAME_SLOT_KEY, entry), "The shallower entry is dropped");
+
+		table.store(KEY, 2, TranspositionTable.UPPER_BOUND, 3.0, OTHER_MOVE);
+		assertTrue(table.probe(KEY, entry), "The position is still there");
+		assertTrue(entry.depth == 5 && entry.score == 1.0 && entry.boundType == TranspositionTable.EXACT,
+				"A shallower result for the same position keeps the deeper score");
+		assertTrue(entry.bestMove == OTHER_MOVE, "but takes its best move");
+
+		table.store(SAME_SLOT_KEY, 5, TranspositionTable.EXACT, 2.0, OTHER_MOVE);
+		assertTrue(table.probe(SAME_SLOT_KEY, entry) && entry.score == 2.0, "An entry at least as deep replaces");
+		assertTrue(!table.probe(KEY, entry), "The replaced entry is gone");
+
+		table.newSearch();
+		table.store(KEY, 1, TranspositionTable.EXACT, 4.0, MOVE);
+		assertTrue(table.probe(KEY, entry) && entry.depth == 1 && entry.score == 4.0,
+				"Any entry replaces one from an older search");
+	}
+
+	private static void testTornEntry() throws Exception {
+		TranspositionTable<Move> table = new TranspositionTable<>(4);
+		TranspositionTable.Entry<Move> entry = new TranspositionTable.Entry<>();
+		table.store(KEY, 3, TranspositionTable.EXACT, 1.5, MOVE);
+
+		// a concurrent write that only got as far as the score
+		Field field = TranspositionTable.class.getDeclaredField("entries");
+		field.setAccessible(true);
+		long[] entries = (long[]) field.get(table);
+		int slot = (int) (KEY ^ (KEY >>> 32)) & (table.size() - 1);
+		entries[slot * 3 + 1] = Double.doubleToRawLongBits(-7.0);
+
+		assertTrue(!table.probe(KEY, entry), "A torn entry is a miss, not a wrong score");
+	}
+
+	public static void assertTrue(boolean value, String msg) {
+		if (!value) throw new RuntimeException(msg);
+	}
+}
@@ -0,0 +1,14 @@
+package com.dillard.games;
+
+/**
+ * A game that can take back moves, so that a search can walk one game object
+ * down and back up the game tree instead of cloning it for every child.
+ */
+public interface UndoableGame<M extends Move, G extends Game<M, G>> extends Game<M, G> {
+
+	/** Take the specified move, and return a token that undoMove can use to take it back */
+	Object doMove(M m) throws InvalidMoveException;
+
+	/** Take back the most recent move that has not been undone. The token must be the one doMove returned for it. */
+	void undoMove(Object undoToken);
+}
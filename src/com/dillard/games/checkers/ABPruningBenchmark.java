@@ -0,0 +1,81 @@
+package com.dillard.games.checkers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import com.dillard.games.ABPruningPlayer;
+
+/**
+ * Compares ABPruningPlayer search settings on the same checkers positions.
+ * Arguments: search depth (default 8), and optionally a time budget in milliseconds
+ * to also compare how deep iterative deepening gets.
+ */
+public class ABPruningBenchmark {
+    private static final int NUM_POSITIONS = 20;
+
+    public static void main(String[] args) {
+        int depth = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        long budgetMillis = args.length > 1 ? Long.parseLong(args[1]) : 0;
+        List<CheckersGame> positions = randomPositions(NUM_POSITIONS, new Random(11));
+
+        run("no quiescence", positions, depth, budgetMillis, player -> player.setQuiescenceSearch(false));
+        run("alpha-beta", positions, depth, budgetMillis, player -> player.setPrincipalVariationSearch(false));
+        run("PVS", positions, depth, budgetMillis, player -> player.setPrincipalVariationSearch(true));
+        if (budgetMillis > 0) {
+            run("PVS+aspiration", positions, depth, budgetMillis, player -> {
+                player.setPrincipalVariationSearch(true);
+                player.setAspirationWindow(0.5);
+            });
+        }
+    }
+
+    private static void run(String name, List<CheckersGame> positions, int depth, long budgetMillis,
+            Consumer<ABPruningPlayer<CheckersMove, CheckersGame>> settings) {
+        long nodes = 0, leaves = 0;
+        long start = System.currentTimeMillis();
+        for (CheckersGame position : positions) {
+            var player = new ABPruningPlayer<CheckersMove, CheckersGame>(depth, new Random(3));
+            player.setQuiescenceSearch(true);
+            settings.accept(player);
+            player.move(position.clone());
+            nodes += player.getNumNodes();
+            leaves += player.getNumLeafNodes();
+        }
+        System.out.println(String.format("%-16s depth %d nodes %,12d leaves %,12d %,8d ms",
+                name, depth, nodes, leaves, System.currentTimeMillis() - start));
+
+        if (budgetMillis > 0) {
+            int depthSum = 0, researches = 0;
+            for (CheckersGame position : positions) {
+                var player = new ABPruningPlayer<CheckersMove, CheckersGame>(depth, new Random(3));
+                player.setQuiescenceSearch(true);
+                settings.accept(player);
+                player.move(position.clone(), Duration.ofMillis(budgetMillis));
+                depthSum += player.getLastCompletedDepth();
+                researches += player.getNumAspirationResearches();
+            }
+            System.out.println(String.format("%-16s %d ms: average depth %.2f, aspiration re-searches %d",
+                    name, budgetMillis, depthSum / (double) positions.size(), researches));
+        }
+    }
+
+    /** Positions from the middle of games played with random moves */
+    private static List<CheckersGame> randomPositions(int n, Random random) {
+        List<CheckersGame> positions = new ArrayList<>();
+        while (positions.size() < n) {
+            CheckersGame game = new CheckersGame();
+            int numMoves = 8 + random.nextInt(30);
+            for (int i=0; i<numMoves && !game.isTerminated(); i++) {
+                var moves = game.getMoves();
+                game.move(moves.get(random.nextInt(moves.size())));
+            }
+            if (!game.isTerminated()) {
+                positions.add(game);
+            }
+        }
+        return positions;
+    }
+}
@@ -1,5 +1,5 @@
-package com.dillard.games.checkers;
-
-public class BoardException extends RuntimeException {
-
-}
+package com.dillard.games.checkers;
+
+public class BoardException extends RuntimeException {
+
+}
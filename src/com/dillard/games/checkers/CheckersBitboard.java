@@ -0,0 +1,163 @@
+package com.dillard.games.checkers;
+
+import java.util.List;
+
+/**
+ * Move generation on bitboards. The 32 playable squares are numbered row by row, square = row * 4 + col / 2,
+ * and a position is a mask of the white pieces, a mask of the black pieces and a mask of the kings.
+ *
+ * A diagonal step is a shift of the whole mask. Alternate rows are offset by half a square, so the shift
+ * is different for even and odd rows, and pieces on the edge that would step off the board are masked out first.
+ * A jump is two steps in the same direction: the first onto an opponent's piece, the second onto an empty square.
+ */
+final class CheckersBitboard {
+    static final int UP_LEFT = 0;
+    static final int UP_RIGHT = 1;
+    static final int DOWN_LEFT = 2;
+    static final int DOWN_RIGHT = 3;
+    // The order each color's moves are generated in: forward before backward, left before right.
+    // White men move up and black men move down, so men only use the first two.
+    private static final int[] WHITE_DIRECTIONS = {UP_LEFT, UP_RIGHT, DOWN_LEFT, DOWN_RIGHT};
+    private static final int[] BLACK_DIRECTIONS = {DOWN_LEFT, DOWN_RIGHT, UP_LEFT, UP_RIGHT};
+
+    static final int EVEN_ROWS = 0x0F0F0F0F;
+    static final int ODD_ROWS = 0xF0F0F0F0;
+    // column 0 is on the even rows and column 7 on the odd rows
+    static final int LEFT_EDGE = 0x01010101;
+    static final int RIGHT_EDGE = 0x80808080;
+    static final int BOTTOM_ROW = 0x0000000F;
+    static final int TOP_ROW = 0xF0000000;
+
+    static final int WHITE_START = 0x00000FFF;
+    static final int BLACK_START = 0xFFF00000;
+
+    private static final CheckersLocation[] LOCATIONS = new CheckersLocation[32];
+    static {
+        for (int square=0; square<32; square++) {
+            LOCATIONS[square] = CheckersLocation.forLocation(row(square), col(square));
+        }
+    }
+
+    private CheckersBitboard() {
+    }
+
+    static int row(int square) {
+        return square >>> 2;
+    }
+
+    static int col(int square) {
+        return 2 * (square & 3) + (row(square) & 1);
+    }
+
+    /** The square's number, or -1 if it is not a playable square */
+    static int square(CheckersLocation location) {
+        if (((location.row + location.col) & 1) != 0) {
+            return -1;
+        }
+        return location.row * 4 + location.col / 2;
+    }
+
+    static CheckersLocation location(int square) {
+        return LOCATIONS[square];
+    }
+
+    /** Every piece in the mask moved one square in the direction, dropping those that would leave the board */
+    static int step(int mask, int direction) {
+        switch (direction) {
+        case UP_LEFT:
+            return ((mask & EVEN_ROWS & ~LEFT_EDGE) << 3) | ((mask & ODD_ROWS) << 4);
+        case UP_RIGHT:
+            return ((mask & EVEN_ROWS) << 4) | ((mask & ODD_ROWS & ~RIGHT_EDGE) << 5);
+        case DOWN_LEFT:
+            return ((mask & EVEN_ROWS & ~LEFT_EDGE) >>> 5) | ((mask & ODD_ROWS) >>> 4);
+        default:
+            return ((mask & EVEN_ROWS) >>> 4) | ((mask & ODD_ROWS & ~RIGHT_EDGE) >>> 3);
+        }
+    }
+
+    private static int opposite(int direction) {
+        return 3 - direction;
+    }
+
+    /** The pieces of own that can jump */
+    static int jumpers(int own, int opponent, int kings, boolean white) {
+        int empty = ~(own | opponent);
+        int[] directions = white ? WHITE_DIRECTIONS : BLACK_DIRECTIONS;
+        int jumpers = 0;
+        for (int i=0; i<4; i++) {
+            int back = opposite(directions[i]);
+            // empty landing squares, stepped back over an opponent's piece
+            int jumped = step(empty, back) & opponent;
+            // men only move forward
+            jumpers |= step(jumped, back) & (i < 2 ? own : own & kings);
+        }
+        return jumpers;
+    }
+
+    /** The pieces of own that can make a move that is not a jump */
+    static int steppers(int own, int opponent, int kings, boolean white) {
+        int empty = ~(own | opponent);
+        int[] directions = white ? WHITE_DIRECTIONS : BLACK_DIRECTIONS;
+        int steppers = 0;
+        for (int i=0; i<4; i++) {
+            steppers |= step(empty, opposite(directions[i])) & (i < 2 ? own : own & kings);
+        }
+        return steppers;
+    }
+
+    /**
+     * Add the jumps of the pieces in the mask to the list, by square and then by direction,
+     * forward before backward and left before right.
+     */
+    static void addJumps(int pieces, int own, int opponent, int kings, boolean white, List<CheckersMove> jumps) {
+        int empty = ~(own | opponent);
+        int[] directions = white ? WHITE_DIRECTIONS : BLACK_DIRECTIONS;
+        while (pieces != 0) {
+            int from = Integer.numberOfTrailingZeros(pieces);
+            int piece = pieces & -pieces;
+            pieces &= pieces - 1;
+            int numDirections = (kings & piece) != 0 ? 4 : 2;
+            for (int i=0; i<numDirections; i++) {
+                int direction = directions[i];
+                int jumped = step(piece, direction) & opponent;
+                int to = step(jumped, direction) & empty;
+                if (to != 0) {
+                    jumps.add(CheckersMove.forCode(CheckersMove.code(from, direction, true)));
+                }
+            }
+        }
+    }
+
+    /** Add the moves that are not jumps of the pieces in the mask to the list, in the same order as addJumps */
+    static void addSteps(int pieces, int own, int opponent, int kings, boolean white, List<CheckersMove> moves) {
+        int empty = ~(own | opponent);
+        int[] directions = white ? WHITE_DIRECTIONS : BLACK_DIRECTIONS;
+        while (pieces != 0) {
+            int from = Integer.numberOfTrailingZeros(pieces);
+            int piece = pieces & -pieces;
+            pieces &= pieces - 1;
+            int numDirections = (kings & piece) != 0 ? 4 : 2;
+            for (int i=0; i<numDirections; i++) {
+                int direction = directions[i];
+                int to = step(piece, direction) & empty;
+                if (to != 0) {
+                    moves.add(CheckersMove.forCode(CheckersMove.code(from, direction, false)));
+                }
+            }
+        }
+    }
+
+    /** The pieces as an 8 by 8 array, indexed by row and column */
+    static Piece[][] toPieces(int white, int black, int kings) {
+        Piece[][] pieces = new Piece[CheckersBoard.NUM_ROWS][CheckersBoard.NUM_COLS];
+        int occupied = white | black;
+        while (occupied != 0) {
+            int square = Integer.numberOfTrailingZeros(occupied);
+            int bit = occupied & -occupied;
+            occupied &= occupied - 1;
+            PieceColor color = (white & bit) != 0 ? PieceColor.WHITE : PieceColor.BLACK;
+            pieces[row(square)][col(square)] = Piece.forValue(color, (kings & bit) != 0);
+        }
+        return pieces;
+    }
+}
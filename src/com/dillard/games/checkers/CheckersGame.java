@@ -1,431 +1,461 @@
-package com.dillard.games.checkers;
-
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Observable;
-
-import com.dillard.games.Game;
-import com.dillard.games.InvalidMoveException;
-import com.dillard.games.checkers.MCTS.MCTSGame;
-
-// Encapsulates all game logic
-@SuppressWarnings("deprecation")
-public class CheckersGame extends Observable implements
-Game<CheckersMove, CheckersGame>, MCTSGame<CheckersMove, CheckersGame> {
-	private static final int NUM_MOVES_NO_JUMPS_FOR_DRAW = 50;
-	private static final int NUM_REPEATED_POSITIONS_FOR_DRAW = 3;
-	private static final boolean FORCED_JUMPS = true;
-
-	private CheckersBoard board;
-	private boolean player1Turn;
-	private List<CheckersMove> availableMoves = null;
-	private int moveCount = 0;
-	private int numMovesNoJumpsOrCrowns = 0;
-	private Map<String, Integer> boardStateCounts = new HashMap<>();
-	private int maxBoardStateCount = 1;
-	// NOTE player 1 == white
-	private static final PieceColor PLAYER_1_COLOR = PieceColor.WHITE;
-
-	public CheckersGame() {
-		this(true);
-	}
-    public CheckersGame(boolean isPlayer1Turn) {
-        board = new CheckersBoard();
-        player1Turn = isPlayer1Turn;
-    }
-	private CheckersGame(CheckersBoard board, boolean player1Turn,
-	        List<CheckersMove> availableMoves, int numMovesNoJumpsOrCrowns,
-	        Map<String, Integer> boardStateCounts, int maxBoardStateCount, int moveCount) {
-		this.board = board;
-		this.player1Turn = player1Turn;
-		this.availableMoves = availableMoves;
-		this.numMovesNoJumpsOrCrowns = numMovesNoJumpsOrCrowns;
-		this.boardStateCounts = boardStateCounts;
-		this.maxBoardStateCount = maxBoardStateCount;
-		this.moveCount = moveCount;
-	}
-
-	@Override
-    public CheckersGame clone() {
-		return new CheckersGame(
-		        board.clone(),
-		        player1Turn,
-		        availableMoves == null ? null : new ArrayList<>(availableMoves),
-		        numMovesNoJumpsOrCrowns,
-		        new HashMap<>(boardStateCounts),
-		        maxBoardStateCount,
-		        moveCount);
-	}
-
-	public CheckersBoard cloneBoard() {
-	    return board.clone();
-	}
-
-	public void move(CheckersMove move) {
-		Piece piece = board.getPiece(move.from);
-		if (piece == null) {
-		    throw new InvalidMoveException("No piece exists in this location");
-		}
-
-		if (!isCurrentPlayerColor(piece.getColor())) {
-			throw new InvalidMoveException("Wrong player's piece");
-		}
-
-		// check if move is an available move
-		if (availableMoves == null) {
-			getMoves();
-		}
-		if (!availableMoves.contains(move)) {
-			throw new InvalidMoveException("Move is not currently a legal move: " + move);
-		}
-
-        CheckersLocation to = move.to;
-
-		try {
-			board.movePiece(move.from, to);
-		} catch (BoardException e) {
-			throw new InvalidMoveException(e);
-		}
-
-		List<CheckersMove> furtherJumpMoves = null;
-		if (move.jumpedLocation != null) {
-			try {
-				board.removePiece(move.jumpedLocation);
-			} catch (BoardException e) {
-				throw new InvalidMoveException(e);
-			}
-			numMovesNoJumpsOrCrowns = 0;
-
-		    // Get further jump moves
-			furtherJumpMoves = new ArrayList<>();
-			addMoves(null, furtherJumpMoves, to.getRow(), to.getCol(), piece, true);
-			if (furtherJumpMoves.isEmpty()) {
-			    furtherJumpMoves = null;
-			}
-
-		} else {
-			numMovesNoJumpsOrCrowns++;
-		}
-
-		// King moved piece if appropriate
-		if (!board.getPiece(to).isKing()) {
-    		if (board.getPiece(to).getColor() == PieceColor.WHITE) {
-    			if (to.getRow() == CheckersBoard.NUM_ROWS - 1) {
-    				board.kingPiece(move.to);
-    				numMovesNoJumpsOrCrowns = 0;
-    			}
-    		} else {
-    			if (to.getRow() == 0) {
-    				board.kingPiece(move.to);
-    				numMovesNoJumpsOrCrowns = 0;
-    			}
-    		}
-		}
-
-		if (furtherJumpMoves == null || furtherJumpMoves.isEmpty()) {
-    		player1Turn = !player1Turn;
-    		availableMoves = null;
-		} else {
-		    availableMoves = furtherJumpMoves;
-		}
-
-		if (!piece.isKing || move.jumpedLocation != null) {
-		    // moving a non-king, or jumping, makes it so all past game states can never be repeated.
-		    // clear the counts so that we do not have to clone them all
-		    boardStateCounts.clear();
-		}
-
-		if (board.getNumKings() > 0) {
-		    // only need to keep these counts if there are kings
-		    updateBoardStateCounts();
-		}
-
-		moveCount++;
-
-		setChanged();
-		notifyObservers();
-	}
-
-	private void updateBoardStateCounts() {
-        String boardStateStr = getBoardStateString();
-	    Integer existing = boardStateCounts.get(boardStateStr);
-	    if (existing == null) {
-	        existing = 0;
-	    }
-	    existing++;
-	    boardStateCounts.put(boardStateStr, existing);
-	    if (existing > maxBoardStateCount) {
-	        maxBoardStateCount = existing;
-	    }
-    }
-
-    private String getBoardStateString() {
-        var board = this.board.getBoardPieces();
-        StringBuilder state = new StringBuilder();
-//        for (int row=0; row<board.length; row++) {
-//            for (int col=row % 2; col<board[row].length; col += 2) {
-//                Piece p = board[row][col];
-//                if (p == null) {
-//                    state.append('0');
-//                } else {
-//                    if (p.isKing) {
-//                        if (p.color == PieceColor.WHITE) {
-//                            state.append('W');
-//                        } else {
-//                            state.append('B');
-//                        }
-//                    } else {
-//                        if (p.color == PieceColor.WHITE) {
-//                            state.append('w');
-//                        } else {
-//                            state.append('b');
-//                        }
-//                    }
-//                }
-//            }
-//        }
-        // only need to keep track of the kings because non-king moves reset the counts
-        for (int row=0; row<board.length; row++) {
-            for (int col=row % 2; col<board[row].length; col += 2) {
-                Piece p = board[row][col];
-                if (p != null && p.isKing) {
-                    state.append(String.valueOf(row * 10 + col));
-                    if (p.color == PieceColor.WHITE) {
-                        state.append('W');
-                    } else {
-                        state.append('B');
-                    }
-                }
-            }
-        }
-        return state.toString();
-    }
-
-    public Piece[][] getBoardPieces() {
-		return board.getBoardPieces();
-	}
-
-	public List<CheckersMove> getMoves() {
-	    if (availableMoves != null) {
-	        return availableMoves;
-	    }
-
-		List<CheckersMove> moves = new ArrayList<>();
-		List<CheckersMove> jumpMoves = new ArrayList<>();
-		Piece[][] boardPieces  = board.getBoardPieces();
-
-		PieceColor currentPlayerColor = getCurrentPlayerColor();
-		for (int r=0; r < CheckersBoard.NUM_ROWS; r++) {
-			for (int c=r%2; c < CheckersBoard.NUM_COLS; c+=2) {
-				Piece p = boardPieces[r][c];
-				if (p != null && currentPlayerColor == p.color) {
-					addMoves(moves, jumpMoves, r, c, p, jumpMoves.size() > 0);
-				}
-			}
-		}
-
-		if (FORCED_JUMPS && jumpMoves.size() > 0) {
-			availableMoves = jumpMoves;
-			return jumpMoves;
-		} else {
-			moves.addAll(jumpMoves);
-			availableMoves = moves;
-			return moves;
-		}
-	}
-
-
-	private void addMoves(List<CheckersMove> moves, List<CheckersMove> jumpMoves, int r, int c, Piece piece,
-			boolean onlyJump) {
-		int signForward = piece.color == PLAYER_1_COLOR ? 1 : -1;
-
-		// Forward moves
-		addMovesInRow(signForward, moves, jumpMoves, r, c, piece, onlyJump);
-
-		// if king, backward moves
-		if (piece.isKing) {
-			addMovesInRow(signForward * -1, moves, jumpMoves, r, c, piece, onlyJump);
-		}
-	}
-
-	private void addMovesInRow(int signDir, List<CheckersMove> moves, List<CheckersMove> jumpMoves, int r, int c, Piece piece,
-			boolean onlyJump) {
-		int nextRow = r + signDir;
-		if (CheckersBoard.isWithinBounds(nextRow)) {
-			addMovesInRowCol(signDir, -1, moves, jumpMoves, r, c, piece, onlyJump);
-			addMovesInRowCol(signDir,  1, moves, jumpMoves, r, c, piece, onlyJump);
-		}
-	}
-
-	private void addMovesInRowCol(int rowSignDir, int colSignDir, List<CheckersMove> moves, List<CheckersMove> jumpMoves,
-			int r, int c, Piece piece, boolean onlyJump) {
-		// If location is off board, return
-		int newCol = colSignDir + c;
-		if (!CheckersBoard.isWithinBounds(newCol)) return;
-
-		// If location is empty, add move for this location, unless we're only looking for jump moves
-		int newRow = r + rowSignDir;
-		CheckersLocation oldLocation = CheckersLocation.forLocation(r, c);
-		CheckersLocation newLocation = CheckersLocation.forLocation(newRow, newCol);
-		if (board.isLocationEmpty(newLocation)) {
-			if (!onlyJump) {
-				moves.add(new CheckersMove(oldLocation, newLocation));
-			}
-			return;
-		}
-
-		// If location is occupied by same color, return
-		Piece existingPiece = board.getPiece(newLocation);
-		if (existingPiece.getColor() == piece.getColor()) {
-			return;
-		}  else { // Location is occupied by opposite color
-			// - make sure we haven't already jumped this piece
-
-			// Try the jump location
-		    int jumpRow = newRow + rowSignDir;
-		    int jumpCol = newCol + colSignDir;
-		    // If not on the board, then nevermind (return)
-		    if (!CheckersBoard.isWithinBounds(jumpRow)) return;
-		    if (!CheckersBoard.isWithinBounds(jumpCol)) return;
-			CheckersLocation jumpLocation = CheckersLocation.forLocation(newRow + rowSignDir, newCol + colSignDir);
-			// If not empty, nevermind (return)
-			if (!board.isLocationEmpty(jumpLocation)) {
-				return;
-			} else {
-			    // we can jump to this location
-			    CheckersMove m = new CheckersMove(oldLocation, jumpLocation, newLocation);
-			    jumpMoves.add(m);
-
-			    // Below was with multiple jumps in one move. I took that out to make moves simpler.
-//				// otherwise, can move here. add jumped piece. check on further jumps
-//				// Don't re-jump pieces that we already jumped
-//				if (jumpedLocations == null) {
-//				    jumpedLocations = new ArrayList<CheckersLocation>();
-//				}
-//				jumpedLocations.add(newLocation);
-//
-//				List<CheckersMove> furtherJumpMoves = new ArrayList<>();
-//				addMoves(null, furtherJumpMoves, jumpLocation.getRow(), jumpLocation.getCol(),
-//						piece, true, jumpedLocations);
-//				if (furtherJumpMoves.size() == 0) {
-//					CheckersMove m = new CheckersMove(oldLocation, jumpLocation);
-//					m.addJumpedPiece(newLocation);
-//					furtherJumpMoves.add(m);
-//				} else {
-//					for (CheckersMove move : furtherJumpMoves) {
-//						move.setFrom(oldLocation);
-//						move.addJumpedPiece(newLocation);
-//					}
-//				}
-//				jumpMoves.addAll(furtherJumpMoves);
-			}
-		}
-	}
-
-	private boolean isCurrentPlayerColor(PieceColor color) {
-		if (isPlayer1Turn()) {
-			return color == PieceColor.WHITE;
-		} else {
-			return color == PieceColor.BLACK;
-		}
-	}
-
-	private PieceColor getCurrentPlayerColor() {
-        if (isPlayer1Turn()) {
-            return PieceColor.WHITE;
-        } else {
-            return PieceColor.BLACK;
-        }
-    }
-
-	public boolean isTerminated() {
-		if (availableMoves == null) {
-			getMoves();
-		}
-
-		// someone has lost
-		return board.getNumWhitePieces() == 0 || board.getNumBlackPieces() == 0 ||
-    		// or it's time for a draw
-    		numMovesNoJumpsOrCrowns >= NUM_MOVES_NO_JUMPS_FOR_DRAW ||
-    		// or the current player has no moves
-    		availableMoves.size() == 0 ||
-    		// we have seen the same position > 3 times
-    		maxBoardStateCount > NUM_REPEATED_POSITIONS_FOR_DRAW;
-	}
-
-	public double evaluatePieceCount(boolean player1) {
-		if (player1) {
-			return board.getNumWhitePieces() - board.getNumBlackPieces() +
-				(0.5 * (board.getNumWhiteKings() - board.getNumBlackKings()) );
-		} else {
-			return board.getNumBlackPieces() - board.getNumWhitePieces() +
-				(0.5 * (board.getNumBlackKings() - board.getNumWhiteKings()) );
-		}
-	}
-
-	public double evaluate(boolean player1) {
-	    return evaluatePieceCount(player1);
-	}
-
-	public int getMinPlayerPieceCount() {
-	    return Math.min(board.getNumWhitePieces(), board.getNumBlackPieces());
-	}
-
-	public double getFinalScore(boolean player1) {
-       if (availableMoves == null) {
-            getMoves();
-        }
-
-       if (board.getNumWhitePieces() == 0) {
-           if (player1) {
-               return -1.0;
-           } else {
-               return 1.0;
-           }
-       }
-       if (board.getNumBlackPieces() == 0) {
-           if (player1) {
-               return 1.0;
-           } else {
-               return -1.0;
-           }
-       }
-
-       if (availableMoves.isEmpty()) {
-           if (isPlayer1Turn() == player1) {
-               return -1.0;
-           } else {
-               return 1.0;
-           }
-       }
-
-       if (numMovesNoJumpsOrCrowns >= NUM_MOVES_NO_JUMPS_FOR_DRAW) {
-           return 0.0;
-       }
-
-       if (maxBoardStateCount > NUM_REPEATED_POSITIONS_FOR_DRAW) {
-           return 0.0;
-       }
-
-       throw new RuntimeException("Called getFinalScore, but the game is not terminated");
-	}
-
-	public boolean isPlayer1Turn() {
-		return player1Turn;
-	}
-
-	public String toString(Map<CheckersLocation, String> locationReplacements) {
-		return board.toString(locationReplacements);
-	}
-
-	public int getMoveCount() {
-	    return moveCount;
-	}
-
-	@Override
-    public String toString() {
-		return board.toString();
-	}
-}
+package com.dillard.games.checkers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Observable;
+import java.util.Random;
+
+import com.dillard.games.Game;
+import com.dillard.games.InvalidMoveException;
+import com.dillard.games.UndoableGame;
+import com.dillard.games.checkers.MCTS.MCTSGame;
+
+// Encapsulates all game logic.
+// The position is kept as bitboards (see CheckersBitboard); CheckersBoard is only made when asked for.
+@SuppressWarnings("deprecation")
+public class CheckersGame extends Observable implements
+Game<CheckersMove, CheckersGame>, UndoableGame<CheckersMove, CheckersGame>, MCTSGame<CheckersMove, CheckersGame> {
+	private static final int NUM_MOVES_NO_JUMPS_FOR_DRAW = 50;
+	private static final int NUM_REPEATED_POSITIONS_FOR_DRAW = 3;
+	private static final boolean FORCED_JUMPS = true;
+
+	// Masks of the 32 playable squares. NOTE player 1 == white
+	private int whitePieces;
+	private int blackPieces;
+	private int kings;
+	private boolean player1Turn;
+	// Never modified once made, so clones can share it
+	private List<CheckersMove> availableMoves = null;
+	private int moveCount = 0;
+	private int numMovesNoJumpsOrCrowns = 0;
+	// Zobrist hash of the pieces alone, kept up to date by each move
+	private long piecesHash;
+	// The positions since the last move that can not be undone, latest first, for spotting repetitions.
+	// Only positions with kings are kept; every other move either moves a man or jumps.
+	private RepeatablePosition repeatablePositions = null;
+	private int maxBoardStateCount = 1;
+	// The piece that must keep jumping before the turn ends, or null at the start of a turn
+	private CheckersLocation multiJumpLocation = null;
+
+	// Random keys for Zobrist position hashing, indexed by [piece type][row * NUM_COLS + col]
+	private static final long[][] ZOBRIST_PIECES = new long[4][CheckersBoard.NUM_ROWS * CheckersBoard.NUM_COLS];
+	private static final long[] ZOBRIST_MULTI_JUMP = new long[CheckersBoard.NUM_ROWS * CheckersBoard.NUM_COLS];
+	private static final long ZOBRIST_PLAYER_2_TURN;
+	static {
+	    Random random = new Random(0x5EEDL);
+	    for (long[] pieceKeys : ZOBRIST_PIECES) {
+	        for (int i=0; i<pieceKeys.length; i++) {
+	            pieceKeys[i] = random.nextLong();
+	        }
+	    }
+	    for (int i=0; i<ZOBRIST_MULTI_JUMP.length; i++) {
+	        ZOBRIST_MULTI_JUMP[i] = random.nextLong();
+	    }
+	    ZOBRIST_PLAYER_2_TURN = random.nextLong();
+	}
+	// The index into the Zobrist keys of each of the 32 squares
+	private static final int[] ZOBRIST_SQUARE = new int[32];
+	static {
+	    for (int square=0; square<32; square++) {
+	        ZOBRIST_SQUARE[square] = CheckersBitboard.row(square) * CheckersBoard.NUM_COLS + CheckersBitboard.col(square);
+	    }
+	}
+
+	public CheckersGame() {
+		this(true);
+	}
+    public CheckersGame(boolean isPlayer1Turn) {
+        whitePieces = CheckersBitboard.WHITE_START;
+        blackPieces = CheckersBitboard.BLACK_START;
+        player1Turn = isPlayer1Turn;
+        piecesHash = hashPieces();
+    }
+	/** A game starting from the specified position */
+	CheckersGame(CheckersBoard board, boolean player1Turn) {
+	    this(0, 0, 0, 0, player1Turn, null, 0, null, 1, 0, null);
+	    Piece[][] pieces = board.getBoardPieces();
+	    for (int square=0; square<32; square++) {
+	        Piece p = pieces[CheckersBitboard.row(square)][CheckersBitboard.col(square)];
+	        if (p != null) {
+	            if (p.color == PieceColor.WHITE) {
+	                whitePieces |= 1 << square;
+	            } else {
+	                blackPieces |= 1 << square;
+	            }
+	            if (p.isKing) {
+	                kings |= 1 << square;
+	            }
+	        }
+	    }
+	    piecesHash = hashPieces();
+	}
+	private CheckersGame(int whitePieces, int blackPieces, int kings, long piecesHash, boolean player1Turn,
+	        List<CheckersMove> availableMoves, int numMovesNoJumpsOrCrowns,
+	        RepeatablePosition repeatablePositions, int maxBoardStateCount, int moveCount,
+	        CheckersLocation multiJumpLocation) {
+		this.whitePieces = whitePieces;
+		this.blackPieces = blackPieces;
+		this.kings = kings;
+		this.piecesHash = piecesHash;
+		this.player1Turn = player1Turn;
+		this.availableMoves = availableMoves;
+		this.numMovesNoJumpsOrCrowns = numMovesNoJumpsOrCrowns;
+		this.repeatablePositions = repeatablePositions;
+		this.maxBoardStateCount = maxBoardStateCount;
+		this.moveCount = moveCount;
+		this.multiJumpLocation = multiJumpLocation;
+	}
+
+	/** Constant time: everything a game holds is either a primitive or never modified, so the clone shares it */
+	@Override
+    public CheckersGame clone() {
+		return new CheckersGame(
+		        whitePieces,
+		        blackPieces,
+		        kings,
+		        piecesHash,
+		        player1Turn,
+		        availableMoves,
+		        numMovesNoJumpsOrCrowns,
+		        repeatablePositions,
+		        maxBoardStateCount,
+		        moveCount,
+		        multiJumpLocation);
+	}
+
+	public CheckersBoard cloneBoard() {
+	    int numWhite = Integer.bitCount(whitePieces), numBlack = Integer.bitCount(blackPieces);
+	    return new CheckersBoard(getBoardPieces(), numWhite + numBlack, numWhite, numBlack,
+	            Integer.bitCount(whitePieces & kings), Integer.bitCount(blackPieces & kings));
+	}
+
+	public void move(CheckersMove move) {
+		applyMove(move, null);
+
+		setChanged();
+		notifyObservers();
+	}
+
+	/** Take the specified move so that it can be undone. Observers are not notified. */
+	@Override
+	public Object doMove(CheckersMove move) {
+	    Undo undo = new Undo(whitePieces, blackPieces, kings, piecesHash, player1Turn, availableMoves,
+	            numMovesNoJumpsOrCrowns, repeatablePositions, maxBoardStateCount, moveCount, multiJumpLocation);
+	    applyMove(move, undo);
+	    return undo;
+	}
+
+	@Override
+	public void undoMove(Object undoToken) {
+	    Undo undo = (Undo) undoToken;
+	    whitePieces = undo.whitePieces;
+	    blackPieces = undo.blackPieces;
+	    kings = undo.kings;
+	    piecesHash = undo.piecesHash;
+	    repeatablePositions = undo.repeatablePositions;
+	    player1Turn = undo.player1Turn;
+	    availableMoves = undo.availableMoves;
+	    numMovesNoJumpsOrCrowns = undo.numMovesNoJumpsOrCrowns;
+	    maxBoardStateCount = undo.maxBoardStateCount;
+	    moveCount = undo.moveCount;
+	    multiJumpLocation = undo.multiJumpLocation;
+	}
+
+	/** @param undo if not null, records what is needed to undo the move */
+	private void applyMove(CheckersMove move, Undo undo) {
+		int from = CheckersBitboard.square(move.from);
+		int fromBit = from < 0 ? 0 : 1 << from;
+		if (((whitePieces | blackPieces) & fromBit) == 0) {
+		    throw new InvalidMoveException("No piece exists in this location");
+		}
+
+		if ((ownPieces() & fromBit) == 0) {
+			throw new InvalidMoveException("Wrong player's piece");
+		}
+
+		// check if move is an available move
+		if (availableMoves == null) {
+			getMoves();
+		}
+		if (!availableMoves.contains(move)) {
+			throw new InvalidMoveException("Move is not currently a legal move: " + move);
+		}
+
+		boolean wasKing = (kings & fromBit) != 0;
+		int to = CheckersBitboard.square(move.to);
+		int toBit = 1 << to;
+		int moved = fromBit | toBit;
+		if (player1Turn) {
+		    whitePieces ^= moved;
+		} else {
+		    blackPieces ^= moved;
+		}
+		if (wasKing) {
+		    kings ^= moved;
+		}
+		int pieceIndex = zobristPieceIndex(toBit);
+		piecesHash ^= ZOBRIST_PIECES[pieceIndex][ZOBRIST_SQUARE[from]] ^ ZOBRIST_PIECES[pieceIndex][ZOBRIST_SQUARE[to]];
+
+		List<CheckersMove> furtherJumpMoves = null;
+		if (move.jumpedLocation != null) {
+			int jumped = CheckersBitboard.square(move.jumpedLocation);
+			piecesHash ^= ZOBRIST_PIECES[zobristPieceIndex(1 << jumped)][ZOBRIST_SQUARE[jumped]];
+			int jumpedBit = ~(1 << jumped);
+			whitePieces &= jumpedBit;
+			blackPieces &= jumpedBit;
+			kings &= jumpedBit;
+			numMovesNoJumpsOrCrowns = 0;
+
+		    // Get further jump moves, by the piece as it was before any crowning
+			if ((CheckersBitboard.jumpers(ownPieces(), opponentPieces(), kings, player1Turn) & toBit) != 0) {
+			    furtherJumpMoves = new ArrayList<>(2);
+			    CheckersBitboard.addJumps(toBit, ownPieces(), opponentPieces(), kings, player1Turn, furtherJumpMoves);
+			    furtherJumpMoves = Collections.unmodifiableList(furtherJumpMoves);
+			}
+
+		} else {
+			numMovesNoJumpsOrCrowns++;
+		}
+
+		// King moved piece if appropriate
+		if (!wasKing && (toBit & (player1Turn ? CheckersBitboard.TOP_ROW : CheckersBitboard.BOTTOM_ROW)) != 0) {
+		    kings |= toBit;
+		    piecesHash ^= ZOBRIST_PIECES[pieceIndex][ZOBRIST_SQUARE[to]] ^ ZOBRIST_PIECES[pieceIndex + 1][ZOBRIST_SQUARE[to]];
+		    numMovesNoJumpsOrCrowns = 0;
+		}
+
+		if (furtherJumpMoves == null) {
+    		player1Turn = !player1Turn;
+    		availableMoves = null;
+    		multiJumpLocation = null;
+		} else {
+		    availableMoves = furtherJumpMoves;
+		    multiJumpLocation = move.to;
+		}
+
+		if (!wasKing || move.jumpedLocation != null) {
+		    // moving a non-king, or jumping, makes it so all past game states can never be repeated.
+		    repeatablePositions = null;
+		}
+
+		if (kings != 0) {
+		    // only need to keep these counts if there are kings
+		    addRepeatablePosition();
+		}
+
+		moveCount++;
+	}
+
+	private int ownPieces() {
+	    return player1Turn ? whitePieces : blackPieces;
+	}
+
+	private int opponentPieces() {
+	    return player1Turn ? blackPieces : whitePieces;
+	}
+
+	/** Everything about the game before a move that the move can change */
+	private static final class Undo {
+	    final int whitePieces;
+	    final int blackPieces;
+	    final int kings;
+	    final boolean player1Turn;
+	    final long piecesHash;
+	    final List<CheckersMove> availableMoves;
+	    final int numMovesNoJumpsOrCrowns;
+	    final RepeatablePosition repeatablePositions;
+	    final int maxBoardStateCount;
+	    final int moveCount;
+	    final CheckersLocation multiJumpLocation;
+
+	    Undo(int whitePieces, int blackPieces, int kings, long piecesHash, boolean player1Turn,
+	            List<CheckersMove> availableMoves, int numMovesNoJumpsOrCrowns, RepeatablePosition repeatablePositions,
+	            int maxBoardStateCount, int moveCount, CheckersLocation multiJumpLocation) {
+	        this.whitePieces = whitePieces;
+	        this.blackPieces = blackPieces;
+	        this.kings = kings;
+	        this.piecesHash = piecesHash;
+	        this.player1Turn = player1Turn;
+	        this.availableMoves = availableMoves;
+	        this.numMovesNoJumpsOrCrowns = numMovesNoJumpsOrCrowns;
+	        this.repeatablePositions = repeatablePositions;
+	        this.maxBoardStateCount = maxBoardStateCount;
+	        this.moveCount = moveCount;
+	        this.multiJumpLocation = multiJumpLocation;
+	    }
+	}
+
+	/** A link in a chain of positions. Never modified, so games and their clones can share chains. */
+	private static final class RepeatablePosition {
+	    final long piecesHash;
+	    final RepeatablePosition previous;
+
+	    RepeatablePosition(long piecesHash, RepeatablePosition previous) {
+	        this.piecesHash = piecesHash;
+	        this.previous = previous;
+	    }
+	}
+
+	private void addRepeatablePosition() {
+	    // the men have not moved since the first of these, so the pieces hash tells the positions apart.
+	    // Like the board, it does not say whose turn it is.
+	    int count = 1;
+	    for (RepeatablePosition p = repeatablePositions; p != null; p = p.previous) {
+	        if (p.piecesHash == piecesHash) {
+	            count++;
+	        }
+	    }
+	    // a new link on the front, so games cloned before this move still see the chain as it was
+	    repeatablePositions = new RepeatablePosition(piecesHash, repeatablePositions);
+	    if (count > maxBoardStateCount) {
+	        maxBoardStateCount = count;
+	    }
+	}
+
+    /**
+     * Zobrist hash of the pieces, the player to move, and any multi-jump in progress.
+     * Does not include the move counts used for draws.
+     * Kept up to date as moves are made, so it is cheap enough to key caches and tables on.
+     */
+    public long positionHash() {
+        long hash = player1Turn ? piecesHash : piecesHash ^ ZOBRIST_PLAYER_2_TURN;
+        if (multiJumpLocation != null) {
+            hash ^= ZOBRIST_MULTI_JUMP[multiJumpLocation.row * CheckersBoard.NUM_COLS + multiJumpLocation.col];
+        }
+        return hash;
+    }
+
+    private long hashPieces() {
+        long hash = 0;
+        int occupied = whitePieces | blackPieces;
+        while (occupied != 0) {
+            int square = Integer.numberOfTrailingZeros(occupied);
+            int bit = occupied & -occupied;
+            occupied &= occupied - 1;
+            hash ^= ZOBRIST_PIECES[zobristPieceIndex(bit)][ZOBRIST_SQUARE[square]];
+        }
+        return hash;
+    }
+
+    private int zobristPieceIndex(int bit) {
+        return ((whitePieces & bit) != 0 ? 0 : 2) + ((kings & bit) != 0 ? 1 : 0);
+    }
+
+    /** A new array of the pieces each time, indexed by row and column */
+    public Piece[][] getBoardPieces() {
+		return CheckersBitboard.toPieces(whitePieces, blackPieces, kings);
+	}
+
+	public List<CheckersMove> getMoves() {
+	    if (availableMoves != null) {
+	        return availableMoves;
+	    }
+
+		int own = ownPieces(), opponent = opponentPieces();
+		List<CheckersMove> moves = new ArrayList<>();
+		int jumpers = CheckersBitboard.jumpers(own, opponent, kings, player1Turn);
+		if (!FORCED_JUMPS || jumpers == 0) {
+		    int steppers = CheckersBitboard.steppers(own, opponent, kings, player1Turn);
+		    CheckersBitboard.addSteps(steppers, own, opponent, kings, player1Turn, moves);
+		}
+		CheckersBitboard.addJumps(jumpers, own, opponent, kings, player1Turn, moves);
+		availableMoves = Collections.unmodifiableList(moves);
+		return availableMoves;
+	}
+
+	public boolean isTerminated() {
+		if (availableMoves == null) {
+			getMoves();
+		}
+
+		// someone has lost
+		return whitePieces == 0 || blackPieces == 0 ||
+    		// or it's time for a draw
+    		numMovesNoJumpsOrCrowns >= NUM_MOVES_NO_JUMPS_FOR_DRAW ||
+    		// or the current player has no moves
+    		availableMoves.size() == 0 ||
+    		// we have seen the same position > 3 times
+    		maxBoardStateCount > NUM_REPEATED_POSITIONS_FOR_DRAW;
+	}
+
+	public double evaluatePieceCount(boolean player1) {
+		int numWhite = Integer.bitCount(whitePieces), numBlack = Integer.bitCount(blackPieces);
+		int numWhiteKings = Integer.bitCount(whitePieces & kings), numBlackKings = Integer.bitCount(blackPieces & kings);
+		if (player1) {
+			return numWhite - numBlack + (0.5 * (numWhiteKings - numBlackKings) );
+		} else {
+			return numBlack - numWhite + (0.5 * (numBlackKings - numWhiteKings) );
+		}
+	}
+
+	public double evaluate(boolean player1) {
+	    return evaluatePieceCount(player1);
+	}
+
+	public int getMinPlayerPieceCount() {
+	    return Math.min(Integer.bitCount(whitePieces), Integer.bitCount(blackPieces));
+	}
+
+	public double getFinalScore(boolean player1) {
+       if (availableMoves == null) {
+            getMoves();
+        }
+
+       if (whitePieces == 0) {
+           if (player1) {
+               return -1.0;
+           } else {
+               return 1.0;
+           }
+       }
+       if (blackPieces == 0) {
+           if (player1) {
+               return 1.0;
+           } else {
+               return -1.0;
+           }
+       }
+
+       if (availableMoves.isEmpty()) {
+           if (isPlayer1Turn() == player1) {
+               return -1.0;
+           } else {
+               return 1.0;
+           }
+       }
+
+       if (numMovesNoJumpsOrCrowns >= NUM_MOVES_NO_JUMPS_FOR_DRAW) {
+           return 0.0;
+       }
+
+       if (maxBoardStateCount > NUM_REPEATED_POSITIONS_FOR_DRAW) {
+           return 0.0;
+       }
+
+       throw new RuntimeException("Called getFinalScore, but the game is not terminated");
+	}
+
+	public boolean isPlayer1Turn() {
+		return player1Turn;
+	}
+
+	/** Whether the player to move is in the middle of a multi-jump */
+	boolean isMultiJumpInProgress() {
+	    return multiJumpLocation != null;
+	}
+
+	public String toString(Map<CheckersLocation, String> locationReplacements) {
+		return cloneBoard().toString(locationReplacements);
+	}
+
+	public int getMoveCount() {
+	    return moveCount;
+	}
+
+	@Override
+    public String toString() {
+		return cloneBoard().toString();
+	}
+}
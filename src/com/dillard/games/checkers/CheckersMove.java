@@ -1,65 +1,105 @@
-package com.dillard.games.checkers;
-
-import java.io.Serializable;
-
-import com.dillard.games.Move;
-import com.dillard.games.checkers.MCTS.MCTSMove;
-
-public class CheckersMove implements Move, MCTSMove, Serializable {
-    private static final long serialVersionUID = 1L;
-
-    public final CheckersLocation from;
-	public final CheckersLocation to;
-	public final CheckersLocation jumpedLocation;
-
-	public CheckersMove(CheckersLocation from, CheckersLocation to) {
-		this.from = from;
-		this.to = to;
-		this.jumpedLocation = null;
-	}
-    public CheckersMove(CheckersLocation from, CheckersLocation to, CheckersLocation jumpedLocation) {
-        this.from = from;
-        this.to = to;
-        this.jumpedLocation = jumpedLocation;
-    }
-
-	@Override
-    public String toString() {
-		return from.toString() + " -> " + to.toString() +
-			(jumpedLocation != null ? " jumping " + jumpedLocation.toString() : "");
-	}
-
-	@Override
-    public int hashCode() {
-        int result = 31 + ((from == null) ? 0 : from.hashCode());
-        result = 31 * result + ((jumpedLocation == null) ? 0 : jumpedLocation.hashCode());
-        result = 31 * result + ((to == null) ? 0 : to.hashCode());
-        return result;
-    }
-    @Override
-    public boolean equals(Object obj) {
-        if (this == obj)
-            return true;
-        if (obj == null)
-            return false;
-        if (getClass() != obj.getClass())
-            return false;
-        CheckersMove other = (CheckersMove) obj;
-        if (from == null) {
-            if (other.from != null)
-                return false;
-        } else if (!from.equals(other.from))
-            return false;
-        if (jumpedLocation == null) {
-            if (other.jumpedLocation != null)
-                return false;
-        } else if (!jumpedLocation.equals(other.jumpedLocation))
-            return false;
-        if (to == null) {
-            if (other.to != null)
-                return false;
-        } else if (!to.equals(other.to))
-            return false;
-        return true;
-    }
-}
+package com.dillard.games.checkers;
+
+import java.io.Serializable;
+
+import com.dillard.games.Move;
+import com.dillard.games.checkers.MCTS.MCTSMove;
+
+/**
+ * A step or a single jump. There are only a few hundred of them, so each is made once and shared:
+ * get them from CheckersGame.getMoves(), forLocations or forCode. Two moves are equal only if they are
+ * the same object.
+ *
+ * Each move has a code, its index in the table of moves: the square moved from * 8 + the direction * 2,
+ * + 1 for a jump. Squares and directions are numbered as in CheckersBitboard.
+ */
+public final class CheckersMove implements Move, MCTSMove, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    public static final int NUM_CODES = 32 * 8;
+    // indexed by code, null where the move would leave the board
+    private static final CheckersMove[] MOVES = new CheckersMove[NUM_CODES];
+    static {
+        for (int from=0; from<32; from++) {
+            for (int direction=0; direction<4; direction++) {
+                int stepped = CheckersBitboard.step(1 << from, direction);
+                if (stepped == 0) {
+                    continue;
+                }
+                int code = code(from, direction, false);
+                MOVES[code] = new CheckersMove(location(1 << from), location(stepped), null, code);
+                int jumped = CheckersBitboard.step(stepped, direction);
+                if (jumped != 0) {
+                    code = code(from, direction, true);
+                    MOVES[code] = new CheckersMove(location(1 << from), location(jumped), location(stepped), code);
+                }
+            }
+        }
+    }
+
+    public final CheckersLocation from;
+	public final CheckersLocation to;
+	public final CheckersLocation jumpedLocation;
+	/** The index in the table of moves */
+	public final int code;
+
+    private CheckersMove(CheckersLocation from, CheckersLocation to, CheckersLocation jumpedLocation, int code) {
+        this.from = from;
+        this.to = to;
+        this.jumpedLocation = jumpedLocation;
+        this.code = code;
+    }
+
+    static int code(int fromSquare, int direction, boolean jump) {
+        return fromSquare * 8 + direction * 2 + (jump ? 1 : 0);
+    }
+
+    private static CheckersLocation location(int bit) {
+        return CheckersBitboard.location(Integer.numberOfTrailingZeros(bit));
+    }
+
+    /** The move with this code, or null if there is none */
+    public static CheckersMove forCode(int code) {
+        return MOVES[code];
+    }
+
+    /**
+     * The step, or the jump if the squares are two apart.
+     * @throws IllegalArgumentException if no step or jump joins the squares
+     */
+    public static CheckersMove forLocations(CheckersLocation from, CheckersLocation to) {
+        int fromSquare = CheckersBitboard.square(from);
+        int rows = to.row - from.row, cols = to.col - from.col;
+        if (fromSquare >= 0 && Math.abs(rows) == Math.abs(cols) && (Math.abs(rows) == 1 || Math.abs(rows) == 2)) {
+            int direction = rows > 0 ? (cols < 0 ? CheckersBitboard.UP_LEFT : CheckersBitboard.UP_RIGHT)
+                    : (cols < 0 ? CheckersBitboard.DOWN_LEFT : CheckersBitboard.DOWN_RIGHT);
+            CheckersMove move = MOVES[code(fromSquare, direction, Math.abs(rows) == 2)];
+            if (move != null) {
+                return move;
+            }
+        }
+        throw new IllegalArgumentException("No move from " + from + " to " + to);
+    }
+
+    // moves read back from saved training examples are replaced by the shared ones
+    private Object readResolve() {
+        return forLocations(CheckersLocation.forLocation(from.row, from.col), CheckersLocation.forLocation(to.row, to.col));
+    }
+
+	@Override
+	public boolean isCapture() {
+	    return jumpedLocation != null;
+	}
+
+	@Override
+    public String toString() {
+		return from.toString() + " -> " + to.toString() +
+			(jumpedLocation != null ? " jumping " + jumpedLocation.toString() : "");
+	}
+
+	// equals is left as identity, since each move is made only once
+	@Override
+    public int hashCode() {
+        return code;
+    }
+}
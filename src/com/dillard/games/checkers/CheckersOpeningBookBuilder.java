@@ -0,0 +1,57 @@
+package com.dillard.games.checkers;
+
+import java.io.File;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.dillard.games.OpeningBookBuilder;
+
+/**
+ * Builds an opening book from self-play games.
+ * Arguments: the neural network file, the number of games, the number of plies to record from each game,
+ * the number of games a position must be reached in to be kept, the output file,
+ * and optionally the number of threads and MCTS iterations per move.
+ */
+public class CheckersOpeningBookBuilder {
+
+    public static void main(String[] args) throws Exception {
+        CheckersValueNN nn = CheckersRLTrainerApp.loadOrDefaultNN(args[0]);
+        int numGames = Integer.parseInt(args[1]);
+        int maxPlies = Integer.parseInt(args[2]);
+        int minGames = Integer.parseInt(args[3]);
+        File file = new File(args[4]);
+        int nThreads = args.length > 5 ? Integer.parseInt(args[5]) : Runtime.getRuntime().availableProcessors();
+        int mctsIterations = args.length > 6 ? Integer.parseInt(args[6]) : 200;
+
+        OpeningBookBuilder<CheckersMove, CheckersGame> builder = new OpeningBookBuilder<>(maxPlies);
+        long start = System.currentTimeMillis();
+        ExecutorService es = Executors.newFixedThreadPool(nThreads);
+        for (int i=0; i<numGames; i++) {
+            final int seed = i;
+            es.submit(() -> {
+                try {
+                    SelfPlayDataGenerator generator = new SelfPlayDataGenerator(new Random(seed));
+                    generator.setNumMCTSIters(mctsIterations);
+                    // each game needs its own network, since activating one isn't thread safe
+                    GameResult result = generator.playOneGameForTrainingData(nn.cloneWeights());
+                    // in self-play, the final score is player 1's
+                    builder.addGame(new CheckersGame(result.player1MovedFirst), result.moves, result.finalScore);
+                    int played = builder.getNumGames();
+                    if (played % 100 == 0) {
+                        System.out.println(String.format("%d games, %d positions", played, builder.getNumPositions()));
+                    }
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+            });
+        }
+        es.shutdown();
+        es.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+
+        builder.write(file, minGames);
+        System.out.println(String.format("Wrote %s from %d games (%,d bytes) in %,d ms",
+                file, builder.getNumGames(), file.length(), System.currentTimeMillis() - start));
+    }
+}
@@ -1,5 +1,6 @@
 package com.dillard.games.checkers;
 
+import java.time.Duration;
 import java.util.Random;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -8,6 +9,7 @@ import java.util.function.Supplier;
 
 import com.dillard.games.ABPruningPlayer;
 import com.dillard.games.GamePlayer;
+import com.dillard.games.OpeningBook;
 import com.dillard.games.checkers.MCTS.MCTSPlayer;
 import com.dillard.games.checkers.MCTS.MCTSResult;
 
@@ -18,6 +20,10 @@ public class CheckersPlayerEvaluator {
     private boolean printGameSummaries = false;
     private boolean printMoves = false;
     private int nThreads = 4;
+    private OpeningBook<CheckersMove, CheckersGame> openingBook = null;
+    // When set, MCTS players search for this long per move instead of a fixed number of iterations
+    private Duration mctsTimeBudget = null;
+    private Duration opponentMCTSTimeBudget = null;
 
     public CheckersPlayerEvaluator(double priorWeight, int mctsIterations) {
         this.priorWeight = priorWeight;
@@ -110,9 +116,14 @@ public class CheckersPlayerEvaluator {
             if (printMoves) {
                 System.out.println("P1? " + game.isPlayer1Turn());
             }
-            if (game.isPlayer1Turn()) {
+            CheckersMove bookMove = bookMove(game, random);
+            if (bookMove != null) {
+                game.move(bookMove);
+                mcts.advanceToMove(bookMove);
+                opponentMCTS.advanceToMove(bookMove);
+            } else if (game.isPlayer1Turn()) {
                 // MCTS search
-                MCTSResult<CheckersMove> result = mcts.search(game, mctsIterations, false);
+                MCTSResult<CheckersMove> result = search(mcts, game, mctsIterations, mctsTimeBudget);
                 // take move
                 game.move(result.chosenMove);
                 // update gametree in MCTS
@@ -120,7 +131,8 @@ public class CheckersPlayerEvaluator {
                 opponentMCTS.advanceToMove(result.chosenMove);
             } else {
                 // MCTS search
-                MCTSResult<CheckersMove> result = opponentMCTS.search(game, opponentMCTSIterations, false);
+                MCTSResult<CheckersMove> result = search(opponentMCTS, game, opponentMCTSIterations,
+                        opponentMCTSTimeBudget);
                 // take move
                 game.move(result.chosenMove);
                 // update gametree in MCTS
@@ -158,9 +170,16 @@ public class CheckersPlayerEvaluator {
             if (printMoves) {
                 System.out.println("P1? " + game.isPlayer1Turn());
             }
-            if (game.isPlayer1Turn()) {
+            CheckersMove bookMove = bookMove(game, random);
+            if (bookMove != null) {
+                game.move(bookMove);
+                mcts.advanceToMove(bookMove);
+                if (opponent instanceof ABPruningPlayer<?, ?>) {
+                    ((ABPruningPlayer<CheckersMove, CheckersGame>)opponent).advanceToMove(bookMove);
+                }
+            } else if (game.isPlayer1Turn()) {
                 // MCTS search
-                MCTSResult<CheckersMove> result = mcts.search(game, mctsIterations, false);
+                MCTSResult<CheckersMove> result = search(mcts, game, mctsIterations, mctsTimeBudget);
                 // take move
                 game.move(result.chosenMove);
                 // update gametree in MCTS
@@ -193,4 +212,30 @@ public class CheckersPlayerEvaluator {
 
         return p1Score;
     }
+
+    private MCTSResult<CheckersMove> search(MCTS<CheckersMove, CheckersGame, NNCheckersPlayer> mcts,
+            CheckersGame game, int iterations, Duration timeBudget) {
+        return timeBudget == null ? mcts.search(game, iterations, false) : mcts.search(game, timeBudget, false);
+    }
+
+    /**
+     * Play fixed-time matches: the MCTS players search for this long per move instead of a fixed number
+     * of iterations. The opponent's budget only applies to an MCTS opponent. null goes back to iterations.
+     */
+    public void setTimeBudgets(Duration mctsTimeBudget, Duration opponentMCTSTimeBudget) {
+        this.mctsTimeBudget = mctsTimeBudget;
+        this.opponentMCTSTimeBudget = opponentMCTSTimeBudget;
+    }
+
+    /**
+     * Both sides play moves from the book in positions it has, instead of searching.
+     * A stochastic book keeps the games from all starting the same way.
+     */
+    public void setOpeningBook(OpeningBook<CheckersMove, CheckersGame> openingBook) {
+        this.openingBook = openingBook;
+    }
+
+    private CheckersMove bookMove(CheckersGame game, Random random) {
+        return openingBook == null ? null : openingBook.move(game, random);
+    }
 }
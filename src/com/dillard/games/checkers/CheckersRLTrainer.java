@@ -29,6 +29,7 @@ public class CheckersRLTrainer {
     private Consumer<CheckersValueNN> nnEvaluator;
     private Supplier<Boolean> quitOverrider;
     private SelfPlayDataGenerator dataGenerator;
+    private EvaluationCache<CheckersMove> evaluationCache = null;
 
     public CheckersRLTrainer(
             Random random,
@@ -49,6 +50,8 @@ public class CheckersRLTrainer {
         if (trainingNN == null) {
             trainingNN = CheckersValueNN.build();
         }
+        // the caller may have changed the weights since their evaluations were cached
+        trainingNN.weightsChanged();
 
         quittingTime = System.currentTimeMillis() + durationMs;
 
@@ -198,10 +201,11 @@ public class CheckersRLTrainer {
                     lastProgressTimestamp += reportIntervalMs;
                     gamesPlayedSinceLastProgress.set(0);
                     long msRemaining = quittingTime - lastProgressTimestamp;
-                    System.out.println(String.format("%.2f games/sec. total %d (%d). trained %d. time remaining %s",
+                    System.out.println(String.format("%.2f games/sec. total %d (%d). trained %d. time remaining %s%s",
                             gamesPerSecond, totalGamesPlayed, totalPositionsCreated,
                             miniBatchesTrained * miniBatchSize,
-                            String.format("%02d:%02d", msRemaining / 60000, (msRemaining % 60000) / 1000)));
+                            String.format("%02d:%02d", msRemaining / 60000, (msRemaining % 60000) / 1000),
+                            evaluationCacheProgress() + earlyStoppingProgress() + playoutCapProgress()));
 
                     if (quitOverrider.get()) {
                         continueTraining = false;
@@ -243,10 +247,11 @@ public class CheckersRLTrainer {
                     lastProgressTimestamp = time;
                     gamesPlayedSinceLastProgress.set(0);
                     long msRemaining = quittingTime - lastProgressTimestamp;
-                    System.out.println(String.format("%.2f games/sec. total %d (%d). trained %d. time remaining %s",
+                    System.out.println(String.format("%.2f games/sec. total %d (%d). trained %d. time remaining %s%s",
                             gamesPerSecond, totalGamesPlayed, totalPositionsCreated,
                             miniBatchesTrained * miniBatchSize,
-                            String.format("%02d:%02d", msRemaining / 60000, Math.round((msRemaining % 60000) / 1000.0))));
+                            String.format("%02d:%02d", msRemaining / 60000, Math.round((msRemaining % 60000) / 1000.0)),
+                            evaluationCacheProgress() + earlyStoppingProgress() + playoutCapProgress()));
 
                     if (quitOverrider.get()) {
                         continueTraining = false;
@@ -309,10 +314,11 @@ public class CheckersRLTrainer {
                     lastProgressTimestamp = time;
                     gamesPlayedSinceLastProgress.set(0);
                     long msRemaining = quittingTime - time;
-                    System.out.println(String.format("%.2f games/sec. total %d (%d). trained %d. minutes remaining %s",
+                    System.out.println(String.format("%.2f games/sec. total %d (%d). trained %d. minutes remaining %s%s",
                             gamesPerSecond, totalGamesPlayed, totalPositionsCreated,
                             miniBatchesTrained * miniBatchSize,
-                            (msRemaining / 60000) + ":" + ((msRemaining % 60000) / 1000)));
+                            (msRemaining / 60000) + ":" + ((msRemaining % 60000) / 1000),
+                            evaluationCacheProgress() + earlyStoppingProgress() + playoutCapProgress()));
                 }
             }
 
@@ -372,6 +378,38 @@ public class CheckersRLTrainer {
         replayHistory.reweightPriority(miniBatch, (TrainingExample te) -> nn.error(te));
     }
 
+    private String evaluationCacheProgress() {
+        return evaluationCache == null ? ""
+                : String.format(". eval cache hits %.1f%%", 100 * evaluationCache.getHitRate());
+    }
+
+    private String earlyStoppingProgress() {
+        return dataGenerator.getEarlyStopping() == 0 ? ""
+                : String.format(". early stopping saved %.1f%%", 100 * dataGenerator.getFractionOfIterationsSaved());
+    }
+
+    private String playoutCapProgress() {
+        return dataGenerator.getFullSearchFraction() >= 1.0 ? ""
+                : String.format(". full searches %.1f%%, %.1f iters/search",
+                        100 * dataGenerator.getFractionOfFullSearches(), dataGenerator.getMeanIterationsPerSearch());
+    }
+
+    /** Playout cap randomization for self-play. See SelfPlayDataGenerator.setPlayoutCapRandomization. */
+    public void setPlayoutCapRandomization(double fullSearchFraction, int fastMCTSIters) {
+        dataGenerator.setPlayoutCapRandomization(fullSearchFraction, fastMCTSIters);
+    }
+
+    /** Stop unrecorded self-play searches early once their best move is settled. See SelfPlayDataGenerator.setEarlyStopping. */
+    public void setEarlyStopping(double fraction) {
+        dataGenerator.setEarlyStopping(fraction);
+    }
+
+    /** Cache network evaluations across all the self-play games */
+    public void setEvaluationCache(EvaluationCache<CheckersMove> evaluationCache) {
+        this.evaluationCache = evaluationCache;
+        dataGenerator.setEvaluationCache(evaluationCache);
+    }
+
     public int getNumGameThreads() {
         return numGameThreads;
     }
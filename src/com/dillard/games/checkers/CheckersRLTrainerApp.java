@@ -19,6 +19,8 @@ import com.dillard.nn.LayeredNN;
 
 public class CheckersRLTrainerApp {
     private static final String QUIT_FILE_PATH = "/Users/logan/game-players/quit-training";
+    // Shared by the self-play and evaluation games. Entries are about 1KB.
+    private static final EvaluationCache<CheckersMove> evaluationCache = new EvaluationCache<>(1 << 16);
 
     public static void main(String[] args) throws FileNotFoundException, IOException, ClassNotFoundException {
         String replayHistoryFilename = "/Users/logan/game-players/replay_history.ser";
@@ -76,6 +78,9 @@ public class CheckersRLTrainerApp {
             buildEvaluator(),
             () -> new File(QUIT_FILE_PATH).exists()
             );
+        trainer.setEvaluationCache(evaluationCache);
+        trainer.setEarlyStopping(1.0);
+        trainer.setPlayoutCapRandomization(0.25, 40);
 
         TrainingResult trainingResult = trainer.train(trainingMinutes * 60 * 1000, nn, replayHistory);
         nn = trainingResult.trainingNN;
@@ -108,6 +113,7 @@ public class CheckersRLTrainerApp {
             buildEvaluator(),
             () -> new File(QUIT_FILE_PATH).exists()
             );
+        trainer.setEvaluationCache(evaluationCache);
         trainer.setNumGameThreads(0); // this will make the replay history not change
 
         TrainingResult trainingResult = trainer.train(trainingMinutes * 60 * 1000, nn, replayHistory);
@@ -147,9 +153,15 @@ public class CheckersRLTrainerApp {
         final int abPruningDepth = 6;
         CheckersPlayerEvaluator evaluator = new CheckersPlayerEvaluator(
                 EVALUATOR_MCTS_PRIOR_WEIGHT, mctsIterations, opponentMCTSIterations, nThreads, false, false);
+        NNCheckersPlayer player = new NNCheckersPlayer(nn);
+        player.setEvaluationCache(evaluationCache);
         EvaluationResult evalVsHeuristic = evaluator.evaluate(
-                new NNCheckersPlayer(nn),
-                () -> new ABPruningPlayer<CheckersMove, CheckersGame>(abPruningDepth, new Random(7349)),
+                player,
+                () -> {
+                    var abPruningPlayer = new ABPruningPlayer<CheckersMove, CheckersGame>(abPruningDepth, new Random(7349));
+                    abPruningPlayer.setQuiescenceSearch(true);
+                    return abPruningPlayer;
+                },
                 ngames,
                 new Random());
         System.out.println(String.format(
@@ -219,7 +231,7 @@ public class CheckersRLTrainerApp {
 //  |      w |
 //   --------
 
-    private static CheckersValueNN loadOrDefaultNN(String nnFilename)
+    static CheckersValueNN loadOrDefaultNN(String nnFilename)
             throws FileNotFoundException, IOException, ClassNotFoundException {
         var rawNN = loadNN(nnFilename);
         if (rawNN != null) {
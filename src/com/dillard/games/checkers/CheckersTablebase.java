@@ -0,0 +1,213 @@
+package com.dillard.games.checkers;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import com.dillard.games.Tablebase;
+
+/**
+ * Checkers endgame tablebase, memory-mapped from a file written by CheckersTablebaseGenerator.
+ * Holds the result with best play for every position with up to maxPieces pieces on the board,
+ * at the start of a turn. Probing is O(1): the position is indexed directly from its pieces.
+ *
+ * Results ignore the draw rules for moves without jumps and repeated positions.
+ *
+ * Positions are grouped by material signature (white men, white kings, black men, black kings).
+ * Within a signature, the index combines the rank of the set of squares holding each kind of piece,
+ * and which side is to move. Men are ranked over the 28 squares they can stand on, kings over all 32.
+ * Indexes where two kinds of pieces would share a square are unused.
+ *
+ * Each position takes one byte: 0 for a draw, n > 0 for a win in n turns for the side to move,
+ * and n < 0 for a loss in -n - 1 turns. A multi-jump counts as one turn. Distances above 126 are stored as 126.
+ */
+public class CheckersTablebase implements Tablebase<CheckersGame> {
+    static final int MAGIC = 0x434b5442; // "CKTB"
+    static final int VERSION = 1;
+    static final int NUM_SQUARES = 32;
+    static final int NUM_MAN_SQUARES = 28;
+    static final int MAX_TURNS = 126;
+
+    private static final long[][] BINOMIAL = binomials(NUM_SQUARES);
+
+    private final int maxPieces;
+    private final int[] signatureOffsets;
+    private final ByteBuffer values;
+
+    private CheckersTablebase(int maxPieces, int[] signatureOffsets, ByteBuffer values) {
+        this.maxPieces = maxPieces;
+        this.signatureOffsets = signatureOffsets;
+        this.values = values;
+    }
+
+    /** Map a tablebase file into memory */
+    public static CheckersTablebase load(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("Not a checkers tablebase file: " + file);
+            }
+            int maxPieces = buffer.getInt();
+            int numSignatures = buffer.getInt();
+            int[] signatureOffsets = emptySignatureOffsets(maxPieces);
+            for (int i=0; i<numSignatures; i++) {
+                int signature = signatureIndex(maxPieces, buffer.get(), buffer.get(), buffer.get(), buffer.get());
+                signatureOffsets[signature] = buffer.getInt();
+            }
+            ByteBuffer values = buffer.slice();
+            return new CheckersTablebase(maxPieces, signatureOffsets, values);
+        }
+    }
+
+    public int getMaxPieces() {
+        return maxPieces;
+    }
+
+    @Override
+    public double probe(CheckersGame game, boolean player1) {
+        int value = probeValue(game);
+        if (value == Integer.MIN_VALUE) {
+            return Double.NaN;
+        }
+        double result = value == 0 ? 0 : value > 0 ? 1 : -1;
+        return player1 == game.isPlayer1Turn() ? result : -result;
+    }
+
+    @Override
+    public int turnsToEnd(CheckersGame game) {
+        int value = probeValue(game);
+        if (value == Integer.MIN_VALUE || value == 0) {
+            throw new RuntimeException("Position is not a tablebase win or loss");
+        }
+        return value > 0 ? value : -value - 1;
+    }
+
+    /** The stored value for the position, or Integer.MIN_VALUE if it is not in the tablebase */
+    int probeValue(CheckersGame game) {
+        if (game.isMultiJumpInProgress()) {
+            return Integer.MIN_VALUE;
+        }
+        int[][] squares = new int[4][maxPieces];
+        int[] counts = new int[4];
+        if (!collectSquares(game.getBoardPieces(), squares, counts, maxPieces)) {
+            return Integer.MIN_VALUE;
+        }
+        int offset = signatureOffsets[signatureIndex(maxPieces, counts[0], counts[1], counts[2], counts[3])];
+        if (offset < 0) {
+            return Integer.MIN_VALUE;
+        }
+        long index = positionIndex(squares, counts, game.isPlayer1Turn());
+        return values.get(offset + (int) index);
+    }
+
+    // Piece kinds, in signature order
+    static final int WHITE_MAN = 0, WHITE_KING = 1, BLACK_MAN = 2, BLACK_KING = 3;
+
+    /**
+     * Fill squares with the squares holding each kind of piece, in increasing order.
+     * Return false if there are more than maxPieces pieces or either side has none.
+     */
+    static boolean collectSquares(Piece[][] board, int[][] squares, int[] counts, int maxPieces) {
+        int total = 0;
+        for (int square=0; square<NUM_SQUARES; square++) {
+            Piece piece = board[squareRow(square)][squareCol(square)];
+            if (piece == null) {
+                continue;
+            }
+            if (++total > maxPieces) {
+                return false;
+            }
+            int kind = piece.getColor() == PieceColor.WHITE
+                    ? (piece.isKing() ? WHITE_KING : WHITE_MAN)
+                    : (piece.isKing() ? BLACK_KING : BLACK_MAN);
+            squares[kind][counts[kind]++] = square;
+        }
+        return counts[WHITE_MAN] + counts[WHITE_KING] > 0 && counts[BLACK_MAN] + counts[BLACK_KING] > 0;
+    }
+
+    /** Index of a position within its material signature's table */
+    static long positionIndex(int[][] squares, int[] counts, boolean player1Turn) {
+        long index = 0;
+        for (int kind=0; kind<4; kind++) {
+            // black men can't be on row 0, so their squares start at 4
+            int base = kind == BLACK_MAN ? NUM_SQUARES - NUM_MAN_SQUARES : 0;
+            long rank = 0;
+            for (int i=0; i<counts[kind]; i++) {
+                rank += BINOMIAL[squares[kind][i] - base][i + 1];
+            }
+            index = index * numPlacements(kind, counts[kind]) + rank;
+        }
+        return index * 2 + (player1Turn ? 1 : 0);
+    }
+
+    /** Reverse of positionIndex. Returns whether player 1 is to move. */
+    static boolean unrankPosition(long index, int[][] squares, int[] counts) {
+        boolean player1Turn = (index & 1) != 0;
+        index >>= 1;
+        for (int kind=3; kind>=0; kind--) {
+            long placements = numPlacements(kind, counts[kind]);
+            long rank = index % placements;
+            index /= placements;
+            int base = kind == BLACK_MAN ? NUM_SQUARES - NUM_MAN_SQUARES : 0;
+            int c = NUM_SQUARES;
+            for (int i=counts[kind]; i>0; i--) {
+                do {
+                    c--;
+                } while (BINOMIAL[c][i] > rank);
+                squares[kind][i - 1] = c + base;
+                rank -= BINOMIAL[c][i];
+            }
+        }
+        return player1Turn;
+    }
+
+    static long numPlacements(int kind, int count) {
+        boolean man = kind == WHITE_MAN || kind == BLACK_MAN;
+        return BINOMIAL[man ? NUM_MAN_SQUARES : NUM_SQUARES][count];
+    }
+
+    /** Number of indexes in the table for a material signature */
+    static long signatureSize(int[] counts) {
+        long size = 2;
+        for (int kind=0; kind<4; kind++) {
+            size *= numPlacements(kind, counts[kind]);
+        }
+        return size;
+    }
+
+    static int signatureIndex(int maxPieces, int whiteMen, int whiteKings, int blackMen, int blackKings) {
+        int n = maxPieces + 1;
+        return ((whiteMen * n + whiteKings) * n + blackMen) * n + blackKings;
+    }
+
+    static int[] emptySignatureOffsets(int maxPieces) {
+        int n = maxPieces + 1;
+        int[] offsets = new int[n * n * n * n];
+        Arrays.fill(offsets, -1);
+        return offsets;
+    }
+
+    static int squareRow(int square) {
+        return square / 4;
+    }
+
+    static int squareCol(int square) {
+        int row = square / 4;
+        return (square % 4) * 2 + row % 2;
+    }
+
+    private static long[][] binomials(int n) {
+        long[][] c = new long[n + 1][n + 1];
+        for (int i=0; i<=n; i++) {
+            c[i][0] = 1;
+            for (int j=1; j<=i; j++) {
+                c[i][j] = c[i-1][j-1] + c[i-1][j];
+            }
+        }
+        return c;
+    }
+}
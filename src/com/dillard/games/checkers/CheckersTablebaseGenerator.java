@@ -0,0 +1,270 @@
+package com.dillard.games.checkers;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Builds a CheckersTablebase file by retrograde analysis.
+ * Arguments: the maximum number of pieces, the output file, and optionally the number of threads.
+ *
+ * Material signatures are solved in an order where every move leads to a signature that is already solved
+ * or to the same one: fewer pieces first, and for the same number of pieces, fewer men first, since
+ * captures and crowning can't be undone. Within a signature, positions where the side to move has no moves
+ * are losses in 0 turns. Then pass n resolves the positions n turns from the end: wins, where some turn
+ * leads to a loss for the opponent, and losses, where every turn leads to a win for the opponent.
+ * Passes stop once nothing more can be resolved, and the rest are draws. Each pass only reads the results
+ * of earlier passes, so it can be split across threads.
+ */
+public class CheckersTablebaseGenerator {
+    private static final int POSITIONS_PER_TASK = 1 << 14;
+
+    private final int maxPieces;
+    private final int nThreads;
+    private final Map<Integer, byte[]> tables = new HashMap<>();
+    private final List<int[]> signatures = new ArrayList<>();
+    // the most turns to the end of any position solved so far
+    private int longestSolved = 0;
+
+    public CheckersTablebaseGenerator(int maxPieces, int nThreads) {
+        if (maxPieces < 2) {
+            throw new IllegalArgumentException("A tablebase needs at least 2 pieces");
+        }
+        this.maxPieces = maxPieces;
+        this.nThreads = nThreads;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int maxPieces = Integer.parseInt(args[0]);
+        File file = new File(args[1]);
+        int nThreads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        long start = System.currentTimeMillis();
+        CheckersTablebaseGenerator generator = new CheckersTablebaseGenerator(maxPieces, nThreads);
+        generator.generate();
+        generator.write(file);
+        System.out.println(String.format("Wrote %s (%,d bytes) in %,d ms",
+                file, file.length(), System.currentTimeMillis() - start));
+    }
+
+    public void generate() throws Exception {
+        for (int whiteMen=0; whiteMen<=maxPieces; whiteMen++) {
+            for (int whiteKings=0; whiteKings<=maxPieces; whiteKings++) {
+                for (int blackMen=0; blackMen<=maxPieces; blackMen++) {
+                    for (int blackKings=0; blackKings<=maxPieces; blackKings++) {
+                        int white = whiteMen + whiteKings, black = blackMen + blackKings;
+                        if (white > 0 && black > 0 && white + black <= maxPieces) {
+                            signatures.add(new int[] {whiteMen, whiteKings, blackMen, blackKings});
+                        }
+                    }
+                }
+            }
+        }
+        signatures.sort(Comparator.<int[]>comparingInt(s -> s[0] + s[1] + s[2] + s[3])
+                .thenComparingInt(s -> s[0] + s[2]));
+
+        long totalSize = 0;
+        for (int[] signature : signatures) {
+            totalSize += CheckersTablebase.signatureSize(signature);
+        }
+        if (totalSize > Integer.MAX_VALUE) {
+            throw new RuntimeException("Tablebase with " + maxPieces + " pieces is too big for one file");
+        }
+
+        ExecutorService es = Executors.newFixedThreadPool(nThreads);
+        try {
+            for (int[] signature : signatures) {
+                long start = System.currentTimeMillis();
+                byte[] values = solve(signature, es);
+                tables.put(signatureIndex(signature), values);
+                int wins = 0, losses = 0;
+                for (byte value : values) {
+                    if (value > 0) wins++;
+                    else if (value < 0) losses++;
+                }
+                System.out.println(String.format("%d %d %d %d: %,d positions, %,d wins, %,d losses, %,d ms",
+                        signature[0], signature[1], signature[2], signature[3], values.length, wins, losses,
+                        System.currentTimeMillis() - start));
+            }
+        } finally {
+            es.shutdown();
+        }
+    }
+
+    private byte[] solve(int[] signature, ExecutorService es) throws Exception {
+        int size = (int) CheckersTablebase.signatureSize(signature);
+        byte[] values = new byte[size];
+        for (int pass=0; ; pass++) {
+            // each pass reads the previous pass's values and writes the new ones
+            byte[] previous = values.clone();
+            final int currentPass = pass;
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int start=0; start<size; start+=POSITIONS_PER_TASK) {
+                final int from = start, to = Math.min(size, start + POSITIONS_PER_TASK);
+                futures.add(es.submit(() -> solveRange(signature, previous, values, from, to, currentPass)));
+            }
+            int resolved = 0;
+            for (Future<Integer> future : futures) {
+                resolved += future.get();
+            }
+            if (resolved == 0 && pass > longestSolved) {
+                for (byte value : values) {
+                    longestSolved = Math.max(longestSolved, turnsToEnd(value));
+                }
+                return values;
+            }
+        }
+    }
+
+    /** Resolve what can be resolved in positions [from, to). Return the number of positions resolved. */
+    private int solveRange(int[] signature, byte[] previous, byte[] values, int from, int to, int pass) {
+        int[][] squares = new int[4][maxPieces];
+        int[][] successorSquares = new int[4][maxPieces];
+        int[] successorCounts = new int[4];
+        int resolved = 0;
+        for (int index=from; index<to; index++) {
+            if (previous[index] != 0) {
+                continue;
+            }
+            boolean player1Turn = CheckersTablebase.unrankPosition(index, squares, signature);
+            CheckersGame game = position(squares, signature, player1Turn);
+            if (game == null) {
+                // two pieces on one square
+                continue;
+            }
+            if (pass == 0) {
+                // the first pass only finds the positions where the side to move has no moves
+                if (game.getMoves().isEmpty()) {
+                    values[index] = -1;
+                    resolved++;
+                }
+                continue;
+            }
+
+            // A turn counts if it leads to a result found in an earlier pass, and so one at most pass - 1
+            // turns from the end. Then a position resolved in this pass is exactly pass turns from the end.
+            boolean[] outcome = {false, true}; // can win, must lose
+            forEachTurn(game, player1Turn, after -> {
+                int value = successorValue(after, signature, previous, successorSquares, successorCounts);
+                boolean known = value != 0 && turnsToEnd(value) < pass;
+                if (known && value < 0) {
+                    outcome[0] = true;
+                } else if (!known) {
+                    outcome[1] = false;
+                }
+            });
+
+            if (pass > CheckersTablebase.MAX_TURNS && (outcome[0] || outcome[1])) {
+                throw new RuntimeException("Win too long to store in the tablebase");
+            }
+            if (outcome[0]) {
+                values[index] = (byte) pass;
+            } else if (outcome[1]) {
+                values[index] = (byte) -(pass + 1);
+            } else {
+                continue;
+            }
+            resolved++;
+        }
+        return resolved;
+    }
+
+    private static int turnsToEnd(int value) {
+        return value > 0 ? value : -value - 1;
+    }
+
+    /** The value for the side to move after a turn. Values in the same signature come from the previous pass. */
+    private int successorValue(CheckersGame after, int[] signature, byte[] sameSignature,
+            int[][] squares, int[] counts) {
+        Piece[][] board = after.getBoardPieces();
+        for (int kind=0; kind<4; kind++) {
+            counts[kind] = 0;
+        }
+        if (!CheckersTablebase.collectSquares(board, squares, counts, maxPieces)) {
+            // the side to move has no pieces left
+            return -1;
+        }
+        int successorSignature = signatureIndex(counts);
+        byte[] table = successorSignature == signatureIndex(signature) ? sameSignature : tables.get(successorSignature);
+        if (table == null) {
+            throw new RuntimeException("Tablebase signatures solved out of order");
+        }
+        return table[(int) CheckersTablebase.positionIndex(squares, counts, after.isPlayer1Turn())];
+    }
+
+    /** Call visitor with the position after each complete turn, including every way to finish a multi-jump */
+    private static void forEachTurn(CheckersGame game, boolean player1Turn,
+            Consumer<CheckersGame> visitor) {
+        for (CheckersMove move : game.getMoves()) {
+            Object undo = game.doMove(move);
+            if (game.isPlayer1Turn() == player1Turn && !game.isTerminated()) {
+                forEachTurn(game, player1Turn, visitor);
+            } else {
+                visitor.accept(game);
+            }
+            game.undoMove(undo);
+        }
+    }
+
+    /** A game starting from the position, or null if two pieces share a square */
+    private static CheckersGame position(int[][] squares, int[] counts, boolean player1Turn) {
+        Piece[][] board = new Piece[CheckersBoard.NUM_ROWS][CheckersBoard.NUM_COLS];
+        int numWhite = 0, numBlack = 0;
+        for (int kind=0; kind<4; kind++) {
+            boolean white = kind == CheckersTablebase.WHITE_MAN || kind == CheckersTablebase.WHITE_KING;
+            boolean king = kind == CheckersTablebase.WHITE_KING || kind == CheckersTablebase.BLACK_KING;
+            Piece piece = Piece.forValue(white ? PieceColor.WHITE : PieceColor.BLACK, king);
+            for (int i=0; i<counts[kind]; i++) {
+                int square = squares[kind][i];
+                int row = CheckersTablebase.squareRow(square), col = CheckersTablebase.squareCol(square);
+                if (board[row][col] != null) {
+                    return null;
+                }
+                board[row][col] = piece;
+            }
+            if (white) {
+                numWhite += counts[kind];
+            } else {
+                numBlack += counts[kind];
+            }
+        }
+        CheckersBoard checkersBoard = new CheckersBoard(board, numWhite + numBlack, numWhite, numBlack,
+                counts[CheckersTablebase.WHITE_KING], counts[CheckersTablebase.BLACK_KING]);
+        return new CheckersGame(checkersBoard, player1Turn);
+    }
+
+    public void write(File file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(CheckersTablebase.MAGIC);
+            out.writeInt(CheckersTablebase.VERSION);
+            out.writeInt(maxPieces);
+            out.writeInt(signatures.size());
+            int offset = 0;
+            for (int[] signature : signatures) {
+                for (int count : signature) {
+                    out.writeByte(count);
+                }
+                out.writeInt(offset);
+                offset += tables.get(signatureIndex(signature)).length;
+            }
+            for (int[] signature : signatures) {
+                out.write(tables.get(signatureIndex(signature)));
+            }
+        }
+    }
+
+    private int signatureIndex(int[] counts) {
+        return CheckersTablebase.signatureIndex(maxPieces, counts[0], counts[1], counts[2], counts[3]);
+    }
+}
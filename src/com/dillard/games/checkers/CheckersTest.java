@@ -1,88 +1,282 @@
-package com.dillard.games.checkers;
-
-import com.dillard.games.InvalidMoveException;
-
-public class CheckersTest {
-	public static void main(String[] args) throws Exception {
-		testGetMoves();
-
-		testWrongPlayer();
-
-		System.out.println("Everything OK.");
-	}
-
-	private static void testWrongPlayer() throws Exception {
-		CheckersGame checkers = new CheckersGame();
-
-		// Check initial player
-		assertTrue(checkers.isPlayer1Turn(), "Right player starts");
-
-		try {
-			checkers.move(new CheckersMove(CheckersLocation.forLocation(5, 1), CheckersLocation.forLocation(4,2)));
-			assertTrue(false, "Can't move the wrong player's piece");
-		} catch (InvalidMoveException e) {
-			// expected
-		}
-
-		checkers.move(new CheckersMove(CheckersLocation.forLocation(2, 4), CheckersLocation.forLocation(3,3)));
-	}
-
-	private static void testGetMoves() throws Exception {
-		CheckersGame checkers = new CheckersGame();
-
-		// Check initial moves
-		//		System.out.println(checkers.toString());
-
-		var moves = checkers.getMoves();
-		assertEquals(7, moves.size(), "Right number of initial moves");
-
-
-		// Check forced jump == 1 move
-		checkers.move(new CheckersMove(CheckersLocation.forLocation(2, 4), CheckersLocation.forLocation(3,3)));
-		checkers.move(new CheckersMove(CheckersLocation.forLocation(5, 1), CheckersLocation.forLocation(4,2)));
-
-		// white has a jump
-		moves = checkers.getMoves();
-		assertEquals(1, moves.size(), "Right number of moves with forced jump");
-		checkers.move(moves.get(0));
-//		System.out.println(checkers);
-
-		// black has a jump
-		moves = checkers.getMoves();
-		assertEquals(2, moves.size(), "Right number of moves with forced jump");
-		checkers.move(moves.get(1));
-//		System.out.println(checkers);
-
-		// Set up a double jump
-		// 2,6 to 3,7
-		checkers.move(new CheckersMove(CheckersLocation.forLocation(2,6), CheckersLocation.forLocation(3,7)));
-		// 5,5 to 4,4
-		checkers.move(new CheckersMove(CheckersLocation.forLocation(5,5), CheckersLocation.forLocation(4,4)));
-//		System.out.println(checkers);
-		// 1,7 to 2,6
-		checkers.move(new CheckersMove(CheckersLocation.forLocation(1,7), CheckersLocation.forLocation(2,6)));
-		// 4,4 to 3,3
-		checkers.move(new CheckersMove(CheckersLocation.forLocation(4,4), CheckersLocation.forLocation(3,3)));
-
-		moves = checkers.getMoves();
-		assertEquals(1, moves.size(), "Right number of moves with forced double jump");
-		assertTrue(moves.get(0).jumpedLocation != null, "It is a jump move");
-		boolean isPlayer1Turn = checkers.isPlayer1Turn();
-//		assertEquals( , moves.get(0).jumpedLocation, "Has the jump location");
-		checkers.move(moves.get(0));
-
-		moves = checkers.getMoves();
-		assertEquals(1, moves.size(), "Forced to complete the double jump");
-		assertTrue(moves.get(0).jumpedLocation != null, "It is a jump move");
-		assertTrue(isPlayer1Turn == checkers.isPlayer1Turn(), "Still the same player's turn");
-//		System.out.println(checkers);
-	}
-
-
-	public static void assertEquals(int expected, int actual, String msg) {
-		assertTrue(expected == actual, "Expected " + expected + " but got " + actual + " - " + msg);
-	}
-	public static void assertTrue(boolean value, String msg) {
-		if (!value) throw new RuntimeException(msg);
-	}
-}
+package com.dillard.games.checkers;
+
+import java.util.List;
+import java.util.Random;
+
+import com.dillard.games.InvalidMoveException;
+
+public class CheckersTest {
+	public static void main(String[] args) throws Exception {
+		testGetMoves();
+
+		testWrongPlayer();
+
+		testImpossibleMove();
+
+		testMultiJump();
+
+		testCrowningEndsJump();
+
+		testForcedCapture();
+
+		testHashAfterUndo();
+
+		testCloneIsIndependent();
+
+		System.out.println("Everything OK.");
+	}
+
+	private static void testWrongPlayer() throws Exception {
+		CheckersGame checkers = new CheckersGame();
+
+		// Check initial player
+		assertTrue(checkers.isPlayer1Turn(), "Right player starts");
+
+		try {
+			checkers.move(CheckersMove.forLocations(CheckersLocation.forLocation(5, 1), CheckersLocation.forLocation(4,2)));
+			assertTrue(false, "Can't move the wrong player's piece");
+		} catch (InvalidMoveException e) {
+			// expected
+		}
+
+		checkers.move(CheckersMove.forLocations(CheckersLocation.forLocation(2, 4), CheckersLocation.forLocation(3,3)));
+	}
+
+	private static void testImpossibleMove() throws Exception {
+		try {
+			CheckersMove.forLocations(CheckersLocation.forLocation(2, 4), CheckersLocation.forLocation(5, 4));
+			assertTrue(false, "No move joins squares that are not on a diagonal");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		try {
+			CheckersMove.forLocations(CheckersLocation.forLocation(2, 4), CheckersLocation.forLocation(5, 7));
+			assertTrue(false, "No move is three squares long");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	private static void testGetMoves() throws Exception {
+		CheckersGame checkers = new CheckersGame();
+
+		// Check initial moves
+		//		System.out.println(checkers.toString());
+
+		var moves = checkers.getMoves();
+		assertEquals(7, moves.size(), "Right number of initial moves");
+
+
+		// Check forced jump == 1 move
+		checkers.move(CheckersMove.forLocations(CheckersLocation.forLocation(2, 4), CheckersLocation.forLocation(3,3)));
+		checkers.move(CheckersMove.forLocations(CheckersLocation.forLocation(5, 1), CheckersLocation.forLocation(4,2)));
+
+		// white has a jump
+		moves = checkers.getMoves();
+		assertEquals(1, moves.size(), "Right number of moves with forced jump");
+		checkers.move(moves.get(0));
+//		System.out.println(checkers);
+
+		// black has a jump
+		moves = checkers.getMoves();
+		assertEquals(2, moves.size(), "Right number of moves with forced jump");
+		checkers.move(moves.get(1));
+//		System.out.println(checkers);
+
+		// Set up a double jump
+		// 2,6 to 3,7
+		checkers.move(CheckersMove.forLocations(CheckersLocation.forLocation(2,6), CheckersLocation.forLocation(3,7)));
+		// 5,5 to 4,4
+		checkers.move(CheckersMove.forLocations(CheckersLocation.forLocation(5,5), CheckersLocation.forLocation(4,4)));
+//		System.out.println(checkers);
+		// 1,7 to 2,6
+		checkers.move(CheckersMove.forLocations(CheckersLocation.forLocation(1,7), CheckersLocation.forLocation(2,6)));
+		// 4,4 to 3,3
+		checkers.move(CheckersMove.forLocations(CheckersLocation.forLocation(4,4), CheckersLocation.forLocation(3,3)));
+
+		moves = checkers.getMoves();
+		assertEquals(1, moves.size(), "Right number of moves with forced double jump");
+		assertTrue(moves.get(0).jumpedLocation != null, "It is a jump move");
+		boolean isPlayer1Turn = checkers.isPlayer1Turn();
+//		assertEquals( , moves.get(0).jumpedLocation, "Has the jump location");
+		checkers.move(moves.get(0));
+
+		moves = checkers.getMoves();
+		assertEquals(1, moves.size(), "Forced to complete the double jump");
+		assertTrue(moves.get(0).jumpedLocation != null, "It is a jump move");
+		assertTrue(isPlayer1Turn == checkers.isPlayer1Turn(), "Still the same player's turn");
+//		System.out.println(checkers);
+	}
+
+
+	private static void testMultiJump() throws Exception {
+		CheckersGame checkers = position(true,
+				"........",
+				"........",
+				"...b.b..",
+				"........",
+				"...b....",
+				"..w.....",
+				"........",
+				"........");
+
+		List<CheckersMove> moves = checkers.getMoves();
+		assertEquals(1, moves.size(), "Only the jump");
+		assertTrue(moves.get(0) == move(2, 2, 4, 4), "Jumps 3,3");
+		checkers.move(moves.get(0));
+
+		// two ways to go on from 4,4
+		moves = checkers.getMoves();
+		assertTrue(checkers.isPlayer1Turn(), "Still white's turn during the multi-jump");
+		assertEquals(2, moves.size(), "Both jumps from 4,4");
+		assertTrue(moves.contains(move(4, 4, 6, 2)) && moves.contains(move(4, 4, 6, 6)), "The jumps from 4,4");
+		checkers.move(move(4, 4, 6, 6));
+
+		assertTrue(!checkers.isPlayer1Turn(), "The turn ends when there is no jump left");
+		assertEquals(1, checkers.cloneBoard().getNumBlackPieces(), "Both jumped pieces are gone");
+		assertTrue(checkers.getBoardPieces()[6][6] == Piece.forValue(PieceColor.WHITE, false), "The man landed on 6,6");
+	}
+
+	private static void testCrowningEndsJump() throws Exception {
+		// a king on 7,3 could jump 6,4 backwards, but a man that is crowned by a jump stops there
+		CheckersGame checkers = position(true,
+				"........",
+				"..b.b...",
+				".w......",
+				"........",
+				"........",
+				"........",
+				"........",
+				"........");
+		checkers.move(move(5, 1, 7, 3));
+
+		assertTrue(!checkers.isPlayer1Turn(), "Crowning ends the move");
+		assertTrue(checkers.getBoardPieces()[7][3] == Piece.forValue(PieceColor.WHITE, true), "Crowned on the last row");
+		for (CheckersMove m : checkers.getMoves()) {
+			assertTrue(m.from.equals(CheckersLocation.forLocation(6, 4)), "Black moves next");
+		}
+	}
+
+	private static void testForcedCapture() throws Exception {
+		// the king on 5,5 and the man on 0,0 could step, but the man on 2,2 can jump
+		CheckersGame checkers = position(true,
+				"........",
+				"........",
+				".....W..",
+				"........",
+				"...b....",
+				"..w.....",
+				"........",
+				"w.......");
+
+		List<CheckersMove> moves = checkers.getMoves();
+		assertEquals(1, moves.size(), "Only the capture");
+		assertTrue(moves.get(0).isCapture() && moves.get(0).from.equals(CheckersLocation.forLocation(2, 2)),
+				"The capture by 2,2");
+		try {
+			checkers.move(move(0, 0, 1, 1));
+			assertTrue(false, "Can't step when there is a capture");
+		} catch (InvalidMoveException e) {
+			// expected
+		}
+
+		// without the capture, all the steps
+		checkers = position(true,
+				"........",
+				"........",
+				".....W..",
+				"........",
+				"........",
+				"..w.....",
+				"........",
+				"w.......");
+		assertEquals(7, checkers.getMoves().size(), "4 king steps, 2 steps from 2,2 and 1 from 0,0");
+	}
+
+	private static void testHashAfterUndo() throws Exception {
+		Random random = new Random(17);
+		CheckersGame checkers = new CheckersGame();
+		for (int i=0; i<200 && !checkers.isTerminated(); i++) {
+			long hash = checkers.positionHash();
+			String board = checkers.toString();
+			for (CheckersMove m : checkers.getMoves()) {
+				Object undo = checkers.doMove(m);
+				if (!checkers.isMultiJumpInProgress()) {
+					assertTrue(checkers.positionHash() == rebuilt(checkers).positionHash(),
+							"Hash after " + m + " matches the position built from scratch");
+				}
+				checkers.undoMove(undo);
+				assertTrue(checkers.positionHash() == hash, "Hash is restored by undoing " + m);
+				assertTrue(checkers.toString().equals(board), "Board is restored by undoing " + m);
+			}
+			if (!checkers.isMultiJumpInProgress()) {
+				assertTrue(hash == rebuilt(checkers).positionHash(), "Hash matches the position built from scratch");
+			}
+			List<CheckersMove> moves = checkers.getMoves();
+			checkers.move(moves.get(random.nextInt(moves.size())));
+		}
+	}
+
+	private static void testCloneIsIndependent() throws Exception {
+		CheckersGame checkers = new CheckersGame();
+		checkers.move(move(2, 2, 3, 3));
+		long hash = checkers.positionHash();
+		String board = checkers.toString();
+		List<CheckersMove> moves = checkers.getMoves();
+
+		CheckersGame clone = checkers.clone();
+		assertTrue(clone.positionHash() == hash, "The clone starts in the same position");
+		clone.move(clone.getMoves().get(0));
+		clone.move(clone.getMoves().get(0));
+		assertTrue(checkers.positionHash() == hash && checkers.toString().equals(board),
+				"Moving the clone leaves the original alone");
+		assertTrue(checkers.getMoves().equals(moves) && !checkers.isPlayer1Turn(), "The original's moves are unchanged");
+
+		String cloneBoard = clone.toString();
+		long cloneHash = clone.positionHash();
+		checkers.move(moves.get(moves.size() - 1));
+		assertTrue(clone.positionHash() == cloneHash && clone.toString().equals(cloneBoard),
+				"Moving the original leaves the clone alone");
+	}
+
+	/** A game from a diagram of the board, top row first: w and b for men, W and B for kings */
+	static CheckersGame position(boolean player1Turn, String... rows) {
+		Piece[][] pieces = new Piece[CheckersBoard.NUM_ROWS][CheckersBoard.NUM_COLS];
+		int numWhite = 0, numBlack = 0, numWhiteKings = 0, numBlackKings = 0;
+		for (int i=0; i<rows.length; i++) {
+			int row = CheckersBoard.NUM_ROWS - 1 - i;
+			for (int col=0; col<CheckersBoard.NUM_COLS; col++) {
+				char c = rows[i].charAt(col);
+				if (c == '.') {
+					continue;
+				}
+				boolean white = Character.toLowerCase(c) == 'w', king = Character.isUpperCase(c);
+				pieces[row][col] = Piece.forValue(white ? PieceColor.WHITE : PieceColor.BLACK, king);
+				if (white) {
+					numWhite++;
+					if (king) numWhiteKings++;
+				} else {
+					numBlack++;
+					if (king) numBlackKings++;
+				}
+			}
+		}
+		CheckersBoard board = new CheckersBoard(pieces, numWhite + numBlack, numWhite, numBlack, numWhiteKings, numBlackKings);
+		return new CheckersGame(board, player1Turn);
+	}
+
+	private static CheckersGame rebuilt(CheckersGame checkers) {
+		return new CheckersGame(checkers.cloneBoard(), checkers.isPlayer1Turn());
+	}
+
+	static CheckersMove move(int fromRow, int fromCol, int toRow, int toCol) {
+		return CheckersMove.forLocations(CheckersLocation.forLocation(fromRow, fromCol), CheckersLocation.forLocation(toRow, toCol));
+	}
+
+	public static void assertEquals(int expected, int actual, String msg) {
+		assertTrue(expected == actual, "Expected " + expected + " but got " + actual + " - " + msg);
+	}
+	public static void assertTrue(boolean value, String msg) {
+		if (!value) throw new RuntimeException(msg);
+	}
+}
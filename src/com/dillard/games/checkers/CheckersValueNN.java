@@ -3,6 +3,7 @@ package com.dillard.games.checkers;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.dillard.nn.ActivationFunctionLinear;
 import com.dillard.nn.ActivationFunctionReLU;
@@ -19,8 +20,12 @@ public class CheckersValueNN implements Serializable {
     private static final long serialVersionUID = 1L;
     private static final int NUM_INPUTS = 128;
     private static final int NUM_OUTPUTS = 264;
+    private static final AtomicLong lastVersion = new AtomicLong();
     private ActivationFunctionTanH tanh = new ActivationFunctionTanH();
     private LayeredNN nn;
+    // Identifies the current weights, so cached evaluations made with other weights are not used. 0 until first asked for.
+    // Transient, so a network read back from disk gets a new version.
+    private transient volatile long version = 0;
 
     public CheckersValueNN(LayeredNN nn) {
         this.nn = nn;
@@ -52,21 +57,47 @@ public class CheckersValueNN implements Serializable {
     }
 
     @Override
-    public CheckersValueNN clone() {
-        return new CheckersValueNN(nn.clone());
+    public synchronized CheckersValueNN clone() {
+        return withSameVersion(new CheckersValueNN(nn.clone()));
     }
 
     /**
      * Does not clone fields related to ongoing learning, just weights for making predictions.
      */
-    public CheckersValueNN cloneWeights() {
-        return new CheckersValueNN(nn.cloneWeights());
+    public synchronized CheckersValueNN cloneWeights() {
+        return withSameVersion(new CheckersValueNN(nn.cloneWeights()));
+    }
+
+    /**
+     * A copy has the same weights, so it can use the same cached evaluations. Copies are made while holding
+     * the lock trainMiniBatch holds, so the weights copied always go with the version copied.
+     */
+    private CheckersValueNN withSameVersion(CheckersValueNN copy) {
+        copy.version = getVersion();
+        return copy;
     }
 
     public StateEvaluation<CheckersMove> evaluateState(CheckersGame game, List<CheckersMove> moves) {
         double[] inputs = createNNInputs(game.getBoardPieces(), !game.isPlayer1Turn());
         double[] output = nn.activate(inputs);
+        return stateEvaluation(output, moves);
+    }
 
+    /** Evaluate several states with one batch through the network */
+    public List<StateEvaluation<CheckersMove>> evaluateStates(List<CheckersGame> games) {
+        List<double[]> batchInputs = new ArrayList<>(games.size());
+        for (CheckersGame game : games) {
+            batchInputs.add(createNNInputs(game.getBoardPieces(), !game.isPlayer1Turn()));
+        }
+        List<double[]> batchOutputs = nn.batchActivateInference(batchInputs);
+        List<StateEvaluation<CheckersMove>> evaluations = new ArrayList<>(games.size());
+        for (int i=0; i<games.size(); i++) {
+            evaluations.add(stateEvaluation(batchOutputs.get(i), games.get(i).getMoves()));
+        }
+        return evaluations;
+    }
+
+    private StateEvaluation<CheckersMove> stateEvaluation(double[] output, List<CheckersMove> moves) {
         double stateValue = tanh.activate(output[0]);
         List<Double> scores = new ArrayList<>(moves.size());
 
@@ -121,6 +152,21 @@ public class CheckersValueNN implements Serializable {
     }
 
     private int moveIndex(CheckersMove move) {
+        return MOVE_INDEXES[move.code];
+    }
+
+    // The output for each move, by move code
+    private static final int[] MOVE_INDEXES = new int[CheckersMove.NUM_CODES];
+    static {
+        for (int code=0; code<CheckersMove.NUM_CODES; code++) {
+            CheckersMove move = CheckersMove.forCode(code);
+            if (move != null) {
+                MOVE_INDEXES[code] = computeMoveIndex(move);
+            }
+        }
+    }
+
+    private static int computeMoveIndex(CheckersMove move) {
         // Find output for move
         var from = move.from;
         var to = move.to;
@@ -185,7 +231,7 @@ public class CheckersValueNN implements Serializable {
         return error;
     }
 
-    public double trainMiniBatch(List<TrainingExample> miniBatch) {
+    public synchronized double trainMiniBatch(List<TrainingExample> miniBatch) {
 
 //        double errorSumBefore = 0;
 //        for (var te : miniBatch) {
@@ -209,6 +255,7 @@ public class CheckersValueNN implements Serializable {
         }
 
         nn.batchBackprop(batchErrorGradients);
+        weightsChanged();
 
 //        for (var te : miniBatch) {
 ////            double[] inputs = createNNInputs(te.state.getBoardPieces(), !te.isPlayer1);
@@ -300,6 +347,24 @@ public class CheckersValueNN implements Serializable {
         return instanceError;
     }
 
+    /** A number that is different for every set of weights, across all networks */
+    public long getVersion() {
+        if (version == 0) {
+            synchronized (this) {
+                if (version == 0) {
+                    version = lastVersion.incrementAndGet();
+                }
+            }
+        }
+        return version;
+    }
+
+    /** Must be called after changing the weights other than by trainMiniBatch, so cached evaluations are not used */
+    public void weightsChanged() {
+        version = lastVersion.incrementAndGet();
+    }
+
+    /** Call weightsChanged() after changing the weights through this */
     public LayeredNN getNN() {
         return this.nn;
     }
@@ -0,0 +1,126 @@
+package com.dillard.games.checkers;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.dillard.games.checkers.MCTS.MCTSMove;
+
+/**
+ * Fixed-size cache of network evaluations, keyed by a 64-bit position hash and the version of the network
+ * weights that made the evaluation, so that evaluations by old weights are never returned.
+ * Safe to share between threads.
+ *
+ * The cache is split into sets of a few entries, each picked by the hash and guarded by a lock.
+ * Within a set, entries are replaced in CLOCK order: a hit marks the entry as used, and the hand
+ * passes over used entries, clearing the mark, until it finds one that has not been used since it last passed.
+ */
+public class EvaluationCache<M extends MCTSMove> {
+    private static final int WAYS = 8;
+    private static final int NUM_LOCKS = 256;
+
+    private final int setMask;
+    private final long[] hashes;
+    private final long[] versions;
+    private final Object[] evaluations;
+    private final boolean[] used;
+    private final int[] hands;
+    private final Object[] locks = new Object[NUM_LOCKS];
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /** @param size number of entries. Rounded up to a power of 2, and to at least one set. */
+    public EvaluationCache(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Evaluation cache size must be >= 1");
+        }
+        int numSets = Integer.highestOneBit(Math.max(1, (size + WAYS - 1) / WAYS));
+        if (numSets * WAYS < size) {
+            numSets <<= 1;
+        }
+        setMask = numSets - 1;
+        hashes = new long[numSets * WAYS];
+        versions = new long[numSets * WAYS];
+        evaluations = new Object[numSets * WAYS];
+        used = new boolean[numSets * WAYS];
+        hands = new int[numSets];
+        for (int i=0; i<NUM_LOCKS; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /** The evaluation of the position by these weights, or null if it is not in the cache */
+    @SuppressWarnings("unchecked")
+    public StateEvaluation<M> get(long hash, long version) {
+        int set = set(hash);
+        synchronized (locks[set & (NUM_LOCKS - 1)]) {
+            for (int i=set*WAYS; i<(set+1)*WAYS; i++) {
+                if (evaluations[i] != null && hashes[i] == hash && versions[i] == version) {
+                    used[i] = true;
+                    hits.increment();
+                    return (StateEvaluation<M>) evaluations[i];
+                }
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    public void put(long hash, long version, StateEvaluation<M> evaluation) {
+        int set = set(hash);
+        synchronized (locks[set & (NUM_LOCKS - 1)]) {
+            // replace the position's entry from any weights, or fill an empty one
+            for (int i=set*WAYS; i<(set+1)*WAYS; i++) {
+                if (evaluations[i] == null || hashes[i] == hash) {
+                    write(i, hash, version, evaluation);
+                    return;
+                }
+            }
+            while (true) {
+                int i = set * WAYS + hands[set];
+                hands[set] = (hands[set] + 1) % WAYS;
+                if (used[i]) {
+                    used[i] = false;
+                } else {
+                    write(i, hash, version, evaluation);
+                    return;
+                }
+            }
+        }
+    }
+
+    private void write(int i, long hash, long version, StateEvaluation<M> evaluation) {
+        hashes[i] = hash;
+        versions[i] = version;
+        evaluations[i] = evaluation;
+        used[i] = false;
+    }
+
+    private int set(long hash) {
+        return (int) (hash ^ (hash >>> 32)) & setMask;
+    }
+
+    /** Remove every entry and reset the hit rate */
+    public void clear() {
+        for (int set=0; set<=setMask; set++) {
+            synchronized (locks[set & (NUM_LOCKS - 1)]) {
+                Arrays.fill(evaluations, set * WAYS, (set + 1) * WAYS, null);
+            }
+        }
+        hits.reset();
+        misses.reset();
+    }
+
+    public int size() {
+        return evaluations.length;
+    }
+
+    public long getNumLookups() {
+        return hits.sum() + misses.sum();
+    }
+
+    public double getHitRate() {
+        long h = hits.sum(), lookups = h + misses.sum();
+        return lookups == 0 ? 0.0 : h / (double) lookups;
+    }
+}
@@ -0,0 +1,111 @@
+package com.dillard.games.checkers;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Checks that cached evaluations are only used while the network's weights are the ones that made them */
+public class EvaluationCacheTest {
+    public static void main(String[] args) throws Exception {
+        testNotUsedAfterTraining();
+
+        testSharedByCopies();
+
+        testNotUsedAfterWeightsChanged();
+
+        testNewVersionWhenRead();
+
+        System.out.println("Everything OK.");
+    }
+
+    private static void testNotUsedAfterTraining() {
+        CheckersValueNN nn = CheckersValueNN.build();
+        NNCheckersPlayer player = cachingPlayer(nn, new EvaluationCache<>(1024));
+        CheckersGame game = new CheckersGame();
+
+        StateEvaluation<CheckersMove> before = player.evaluateState(game);
+        assertTrue(player.evaluateState(game) == before, "The second evaluation comes from the cache");
+
+        nn.trainMiniBatch(miniBatch(game));
+        StateEvaluation<CheckersMove> after = player.evaluateState(game);
+        assertTrue(after != before, "Training makes the cached evaluation stale");
+        assertTrue(after.stateValue != before.stateValue, "Training changes the evaluation");
+        assertTrue(after.stateValue == nn.evaluateState(game, game.getMoves()).stateValue,
+                "The evaluation after training is by the trained weights");
+
+        List<CheckersGame> games = List.of(game);
+        nn.trainMiniBatch(miniBatch(game));
+        assertTrue(player.evaluateStates(games).get(0) != after, "Batched evaluations don't use stale entries either");
+    }
+
+    private static void testSharedByCopies() {
+        CheckersValueNN nn = CheckersValueNN.build();
+        EvaluationCache<CheckersMove> cache = new EvaluationCache<>(1024);
+        NNCheckersPlayer player = cachingPlayer(nn, cache);
+        CheckersGame game = new CheckersGame();
+
+        StateEvaluation<CheckersMove> evaluation = player.evaluateState(game);
+        NNCheckersPlayer copyPlayer = cachingPlayer(nn.cloneWeights(), cache);
+        assertTrue(copyPlayer.evaluateState(game) == evaluation, "A copy of the weights uses their cached evaluations");
+
+        nn.trainMiniBatch(miniBatch(game));
+        StateEvaluation<CheckersMove> trained = player.evaluateState(game);
+        assertTrue(trained != evaluation, "The trained network doesn't");
+        StateEvaluation<CheckersMove> copyEvaluation = copyPlayer.evaluateState(game);
+        assertTrue(copyEvaluation != trained && copyEvaluation.stateValue == evaluation.stateValue,
+                "The copy still evaluates with the old weights, not the trained network's cached evaluation");
+    }
+
+    private static void testNotUsedAfterWeightsChanged() {
+        CheckersValueNN nn = CheckersValueNN.build();
+        NNCheckersPlayer player = cachingPlayer(nn, new EvaluationCache<>(1024));
+        CheckersGame game = new CheckersGame();
+
+        StateEvaluation<CheckersMove> evaluation = player.evaluateState(game);
+        nn.weightsChanged();
+        assertTrue(player.evaluateState(game) != evaluation, "weightsChanged makes the cached evaluation stale");
+    }
+
+    private static void testNewVersionWhenRead() throws IOException, ClassNotFoundException {
+        CheckersValueNN nn = CheckersValueNN.build();
+        long version = nn.getVersion();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bytes)) {
+            oos.writeObject(nn);
+        }
+        CheckersValueNN read;
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            read = (CheckersValueNN) ois.readObject();
+        }
+        assertTrue(read.getVersion() != version, "A network read back gets its own version");
+    }
+
+    private static NNCheckersPlayer cachingPlayer(CheckersValueNN nn, EvaluationCache<CheckersMove> cache) {
+        NNCheckersPlayer player = new NNCheckersPlayer(nn);
+        player.setEvaluationCache(cache);
+        return player;
+    }
+
+    /** Examples that say the player to move wins by playing the first move */
+    private static List<TrainingExample> miniBatch(CheckersGame game) {
+        List<Scored<CheckersMove>> scoredMoves = new ArrayList<>();
+        List<CheckersMove> moves = game.getMoves();
+        for (int i=0; i<moves.size(); i++) {
+            scoredMoves.add(new Scored<>(moves.get(i), i == 0 ? 1.0 : 0.0));
+        }
+        List<TrainingExample> miniBatch = new ArrayList<>();
+        for (int i=0; i<16; i++) {
+            miniBatch.add(new TrainingExample(game.cloneBoard(), game.isPlayer1Turn(), 1.0, scoredMoves, 1.0, 1.0));
+        }
+        return miniBatch;
+    }
+
+    public static void assertTrue(boolean value, String msg) {
+        if (!value) throw new RuntimeException(msg);
+    }
+}
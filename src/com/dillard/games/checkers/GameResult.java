@@ -6,6 +6,9 @@ final class GameResult {
     List<TrainingExample> newTrainingExamples;
     double finalScore;
     boolean startingPlayer1Turn;
+    // Every move of the game, from a new game where player 1 moved first if player1MovedFirst
+    List<CheckersMove> moves;
+    boolean player1MovedFirst;
 
     public GameResult(List<TrainingExample> newTrainingExamples,
             double finalScore, boolean startingPlayer1Turn) {
@@ -13,4 +16,12 @@ final class GameResult {
         this.finalScore = finalScore;
         this.startingPlayer1Turn = startingPlayer1Turn;
     }
+
+    public GameResult(List<TrainingExample> newTrainingExamples,
+            double finalScore, boolean startingPlayer1Turn,
+            List<CheckersMove> moves, boolean player1MovedFirst) {
+        this(newTrainingExamples, finalScore, startingPlayer1Turn);
+        this.moves = moves;
+        this.player1MovedFirst = player1MovedFirst;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,85 @@
+package com.dillard.games.checkers;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Histogram of latencies in nanoseconds with buckets of constant relative width, like an HDR histogram:
+ * each power of 2 is split into 16 buckets, so a percentile is accurate to within about 6%.
+ * Values below 16 have a bucket each. Safe to record into from several threads.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int NUM_BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(NUM_BUCKETS);
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(bucket(value));
+        max.accumulate(value);
+    }
+
+    static int bucket(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        // the top SUB_BUCKET_BITS + 1 bits, without the leading 1
+        int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /** The smallest value that falls in the bucket */
+    static long bucketStart(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        return (long) (bucket % SUB_BUCKETS + SUB_BUCKETS) << shift;
+    }
+
+    public long getCount() {
+        long count = 0;
+        for (int i=0; i<NUM_BUCKETS; i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    /** The value at or below which this fraction of the values fall, to bucket precision. 0 if there are none. */
+    public long getPercentile(double fraction) {
+        long count = getCount();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(fraction * count));
+        long seen = 0;
+        for (int i=0; i<NUM_BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                // the middle of the bucket, but never more than the largest value seen
+                long start = bucketStart(i);
+                long end = i + 1 < NUM_BUCKETS ? bucketStart(i + 1) : Long.MAX_VALUE;
+                long middle = start + (end - 1 - start) / 2;
+                return Math.min(middle, max.get());
+            }
+        }
+        return max.get();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    /** Must not be called while other threads are recording */
+    public void reset() {
+        for (int i=0; i<NUM_BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        max.reset();
+    }
+}
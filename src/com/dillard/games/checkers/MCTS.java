@@ -1,57 +1,259 @@
 package com.dillard.games.checkers;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Random;
-
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import com.dillard.games.Move;
+import com.dillard.games.Tablebase;
+import com.dillard.games.UndoableGame;
 import com.dillard.games.checkers.MCTS.MCTSGame;
 import com.dillard.games.checkers.MCTS.MCTSMove;
 import com.dillard.games.checkers.MCTS.MCTSPlayer;
 
-/** Monte Carlo Tree Search */
+/**
+ * Monte Carlo Tree Search.
+ *
+ * The tree is kept in an MCTSNodeArena, with nodes numbered rather than allocated one by one.
+ * Its storage is reused from search to search: resetRoot clears it, and advanceToMove copies the subtree
+ * that is kept to the front of a second arena and clears the first.
+ *
+ * With more than one thread, the threads descend the same tree at once. Each node's statistics are
+ * updated under the node's lock, and a thread adds a virtual loss to each child it descends through
+ * until its result is backed up, so that other threads spread out over other lines.
+ * The player's evaluateState must then be safe to call from several threads.
+ *
+ * In batch mode, a search descends to several leaves, again spread out by virtual loss, and evaluates
+ * them all with one call to the player's evaluateStates before backing up their values.
+ *
+ * The search is also a solver. Finished games and tablebase positions are proven with their exact value,
+ * and proofs propagate up the tree: a node is a proven win for the player to move if any child is a
+ * proven loss for the opponent, and otherwise proven once all its children are, with the best of their values.
+ * A proven node is scored with its value without searching below it, proven losses are never selected,
+ * and the search stops once the root is proven.
+ */
 public class MCTS<M extends MCTSMove, G extends MCTSGame<M, G>, P extends MCTSPlayer<M, G>> {
+    private static final int NONE = MCTSNodeArena.NONE;
+    private static final int NUM_LOCKS = 1024;
+    // The best possible score, on the scale of getFinalScore
+    private static final double WIN = 1.0;
+
     private MCTSPlayer<M, G> player;
     private double priorWeight;
-    private Node<M, G> root = null;
+    // The tree. When the root advances, its subtree is copied into the spare arena, which becomes the tree.
+    private MCTSNodeArena<M, G> nodes = new MCTSNodeArena<>();
+    private MCTSNodeArena<M, G> spareNodes = new MCTSNodeArena<>();
+    private int root = NONE;
+    // Node n is guarded by locks[n % NUM_LOCKS]. A thread holds at most one of them at a time.
+    private final Object[] locks = new Object[NUM_LOCKS];
     private double explorationFactor;
     private Random random;
     private static final double noiseEpsilon = 0.25;
     private static final double DIRICHLET_VALUE = 0.4;
+    // For undoable games, nodes below the root hold no game.
+    // Each search walks one copy of the game down the tree and back up.
+    private boolean useUndo = false;
+    // Positions below the root that are in the tablebase are scored exactly, like finished games
+    private Tablebase<G> tablebase = null;
+
+    private int numThreads = 1;
+    private int batchSize = 1;
+    private final AtomicInteger lastBatch = new AtomicInteger();
+    private ThreadPoolExecutor searchExecutor = null;
+    private MCTSStats stats = null;
+    // 0 for no early stopping, otherwise the share of the iterations left the runner-up is assumed to be able to win
+    private double earlyStopping = 0;
 
     public MCTS(MCTSPlayer<M, G> player, double priorWeight, double explorationFactor, Random random) {
         this.player = player;
         this.priorWeight = priorWeight;
         this.explorationFactor = explorationFactor;
         this.random = random;
+        for (int i=0; i<NUM_LOCKS; i++) {
+            locks[i] = new Object();
+        }
     }
 
     public MCTSResult<M> search(G game, int numIterations, boolean useDirichletNoise) {
-        if (root == null) {
-            root = new Node<M, G>(game, 1.0, null);
-            expandNode(root);
+        return search(game, numIterations, null, null, useDirichletNoise);
+    }
+
+    /** Search until the time budget is used up */
+    public MCTSResult<M> search(G game, Duration budget, boolean useDirichletNoise) {
+        return search(game, Integer.MAX_VALUE, budget, null, useDirichletNoise);
+    }
+
+    /**
+     * Search until the first of: maxIterations iterations, the time budget is used up, or stop returns true.
+     * stop is checked between iterations, or between batches in batch mode, and may be set from another thread.
+     * With early stopping, also stops once the most visited move can't change.
+     * Returns the best move found so far, with the number of iterations run in the result.
+     * @param budget null for no time limit
+     * @param stop null to never stop early
+     */
+    public MCTSResult<M> search(G game, int maxIterations, Duration budget, BooleanSupplier stop,
+            boolean useDirichletNoise) {
+        long startNanos = System.nanoTime();
+        long deadline = budget == null ? 0 : startNanos + budget.toNanos();
+        if (stats != null) {
+            stats.startSearch(root == NONE ? 0 : nodes.size());
+        }
+        if (root == NONE) {
+            useUndo = game instanceof UndoableGame;
+            nodes.clear();
+            root = nodes.allocate(1);
+            nodes.setPrior(root, 1.0);
+            nodes.setPlayer1Turn(root, game.isPlayer1Turn());
+            expandNode(root, game);
+        }
+        nodes.setPlayer1Turn(root, game.isPlayer1Turn());
+        if (nodes.numChildren(root) == 0 && !Double.isNaN(nodes.proven(root))) {
+            // a tablebase position the tree advanced to still needs its moves to choose from
+            nodes.setProven(root, Double.NaN);
         }
+        if (!useUndo && nodes.game(root) == null) {
+            nodes.setGame(root, game.clone());
+        }
+        G searchGame = useUndo ? game.clone() : null;
 
         // Adding Dirichlet noise to the prior probabilities in the root node s0,
-        // specifically P(s, a) = (1 − ep)p + ep*η, where η ∼ Dir(0.03) and ep = 0.25.
+        // specifically P(s, a) = (1 − ep)p + ep*η, where η ∼ Dir(0.03) and ep = 0.25.
         // This noise ensures that all moves may be tried, but the search may still overrule bad moves
-        if (useDirichletNoise) {
-            List<Node<M, G>> children = new ArrayList<>(root.children.values());
-            double[] dirichletNoise = dirichletNoise(children.size());
-            for (int i=0; i<children.size(); i++) {
-                Node<M, G> child = children.get(i);
-                child.priorProb = (1.0 - noiseEpsilon) * child.priorProb + noiseEpsilon * dirichletNoise[i];
+        int numChildren = nodes.numChildren(root);
+        if (useDirichletNoise && numChildren > 0) {
+            int firstChild = nodes.firstChild(root);
+            double[] dirichletNoise = dirichletNoise(numChildren);
+            for (int i=0; i<numChildren; i++) {
+                int child = firstChild + i;
+                nodes.setPrior(child, (1.0 - noiseEpsilon) * nodes.prior(child) + noiseEpsilon * dirichletNoise[i]);
             }
         }
 
-        for (int i=0; i<numIterations; i++) {
-            search(root);
+        int startVisits = childVisitSum(root);
+        // set if early stopping ends the search
+        AtomicInteger iterationsSaved = new AtomicInteger();
+        BooleanSupplier shouldStop = () -> (deadline != 0 && System.nanoTime() - deadline >= 0)
+                || (stop != null && stop.getAsBoolean())
+                || ((earlyStopping > 0 || !Double.isNaN(nodes.proven(root)))
+                        && bestMoveSettled(maxIterations, startNanos, deadline, startVisits, iterationsSaved));
+
+        int iterations = 0;
+        if (numThreads == 1) {
+            IterationTimes times = stats == null ? null : new IterationTimes();
+            while (iterations < maxIterations && !shouldStop.getAsBoolean()) {
+                iterations += searchSome(searchGame, random, Math.min(batchSize, maxIterations - iterations), times);
+            }
+        } else {
+            iterations = searchInParallel(game, maxIterations, shouldStop);
         }
 
-        return buildResult(root);
+        MCTSResult<M> result = buildResult(root);
+        result.numIterations = iterations;
+        result.numIterationsSaved = iterationsSaved.get();
+        result.provenValue = nodes.proven(root);
+        if (stats != null) {
+            stats.endSearch(iterations, result.numIterationsSaved, nodes.size());
+        }
+        return result;
+    }
+
+    /**
+     * Whether the most visited move at the root is settled: it leads the runner-up by more than the
+     * iterations left, or by more than earlyStopping of them. With a time budget, the iterations left are
+     * estimated from the rate so far. A root with one move, or a proven root, is always settled.
+     * If settled, saved is set to the number of iterations left, or 0 if that isn't known yet.
+     */
+    private boolean bestMoveSettled(int maxIterations, long startNanos, long deadline, int startVisits,
+            AtomicInteger saved) {
+        int firstChild = nodes.firstChild(root);
+        int numChildren = nodes.numChildren(root);
+        boolean settled = numChildren <= 1 || !Double.isNaN(nodes.proven(root));
+        int best = 0, runnerUp = 0, visitSum = 0;
+        for (int child=firstChild; child<firstChild+numChildren; child++) {
+            int visits = nodes.visits(child);
+            visitSum += visits;
+            if (visits > best) {
+                runnerUp = best;
+                best = visits;
+            } else if (visits > runnerUp) {
+                runnerUp = visits;
+            }
+        }
+        // iterations still running on other threads are not counted yet, so they count as left
+        long done = visitSum - startVisits;
+        long left = (long) maxIterations - done;
+        if (deadline != 0) {
+            long now = System.nanoTime();
+            if (done > 0) {
+                left = Math.min(left, Math.max(0, done * (deadline - now) / Math.max(1, now - startNanos)));
+            } else if (!settled) {
+                // nothing to estimate the rate from yet
+                return false;
+            } else {
+                left = 0;
+            }
+        }
+        if (!settled && best - runnerUp <= earlyStopping * left) {
+            return false;
+        }
+        saved.set((int) Math.min(left, Integer.MAX_VALUE));
+        return true;
+    }
+
+    private int childVisitSum(int node) {
+        int firstChild = nodes.firstChild(node);
+        int sum = 0;
+        for (int child=firstChild; child<firstChild+nodes.numChildren(node); child++) {
+            sum += nodes.visits(child);
+        }
+        return sum;
+    }
+
+    /** Return the number of iterations run */
+    private int searchInParallel(G game, int numIterations, BooleanSupplier shouldStop) {
+        if (searchExecutor == null) {
+            searchExecutor = new ThreadPoolExecutor(numThreads, numThreads, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), runnable -> {
+                        Thread thread = new Thread(runnable, "MCTS search");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            searchExecutor.allowCoreThreadTimeOut(true);
+        }
+        AtomicInteger iterationsLeft = new AtomicInteger(numIterations);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t=0; t<numThreads; t++) {
+            // each thread walks its own copy of the game and has its own random tie-breaking
+            G threadGame = useUndo ? game.clone() : null;
+            Random threadRandom = new Random(random.nextLong());
+            IterationTimes times = stats == null ? null : new IterationTimes();
+            futures.add(searchExecutor.submit(() -> {
+                int n;
+                while (!shouldStop.getAsBoolean() && (n = claimIterations(iterationsLeft)) > 0) {
+                    searchSome(threadGame, threadRandom, n, times);
+                }
+            }));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
+        return numIterations - iterationsLeft.get();
     }
 
     private double[] dirichletNoise(int n) {
@@ -61,143 +263,532 @@ public class MCTS<M extends MCTSMove, G extends MCTSGame<M, G>, P extends MCTSPl
         return dirichlet.nextDistribution();
     }
 
-    private double search(Node<M, G> node) {
-        // expand node
-        if (node.children.isEmpty()) {
-            double stateValue = expandNode(node);
-            // have hit what was a leaf, no need to continue
-            return stateValue;
+    /** Claim up to a batch of the iterations left. Return how many were claimed. */
+    private int claimIterations(AtomicInteger iterationsLeft) {
+        while (true) {
+            int left = iterationsLeft.get();
+            int n = Math.min(batchSize, left);
+            if (n <= 0 || iterationsLeft.compareAndSet(left, left - n)) {
+                return Math.max(n, 0);
+            }
+        }
+    }
+
+    /**
+     * Run n iterations, as one batch if batch mode is on. Return n.
+     * @param times null when not collecting stats
+     */
+    private int searchSome(G searchGame, Random random, int n, IterationTimes times) {
+        if (batchSize != 1) {
+            searchBatch(searchGame, random, n, times);
+        } else if (times == null) {
+            search(root, searchGame, random, null, 0);
+        } else {
+            long start = System.nanoTime();
+            times.cloneNanos = 0;
+            search(root, searchGame, random, times, 0);
+            long end = System.nanoTime();
+            stats.addSelection(times.leafStart - start - times.cloneNanos);
+            stats.addExpansion(times.cloneNanos);
+            stats.addBackup(end - times.leafEnd);
+            stats.addIteration(end - start);
+        }
+        return n;
+    }
+
+    /** When collecting stats, the times within one iteration. Each searching thread has its own. */
+    private static final class IterationTimes {
+        long leafStart;
+        long leafEnd;
+        // time spent cloning games while descending, which counts as expansion
+        long cloneNanos;
+    }
+
+    /**
+     * Descend to n leaves, evaluate the new ones in one batch, then expand them and back up every value.
+     * @param searchGame the game at the root in undo mode, or null to use the nodes' own games
+     */
+    private void searchBatch(G searchGame, Random random, int n, IterationTimes times) {
+        long start = times == null ? 0 : System.nanoTime();
+        if (times != null) {
+            times.cloneNanos = 0;
+        }
+        int batch = lastBatch.incrementAndGet();
+        if (batch == 0) {
+            // 0 means no batch
+            batch = lastBatch.incrementAndGet();
+        }
+        int[][] paths = new int[n][];
+        int[] pathLengths = new int[n];
+        // NaN until the leaf is evaluated
+        double[] leafValues = new double[n];
+        // descents that reached a leaf already being evaluated, by this batch or another thread's,
+        // which back up nothing so that each evaluation is counted once
+        boolean[] collided = new boolean[n];
+        int[] newLeaves = new int[n];
+        int numNewLeaves = 0;
+        List<G> newLeafGames = new ArrayList<>();
+        List<Object> undoTokens = new ArrayList<>();
+
+        for (int i=0; i<n; i++) {
+            int[] path = new int[16];
+            int pathLength = 0;
+            int node = root;
+            path[pathLength++] = node;
+            try {
+                while (true) {
+                    int child;
+                    synchronized (lock(node)) {
+                        double proven = nodes.proven(node);
+                        if (!Double.isNaN(proven)) {
+                            leafValues[i] = proven;
+                            if (stats != null) {
+                                stats.addLeaf(pathLength - 1);
+                            }
+                            break;
+                        }
+                        if (nodes.numChildren(node) == 0) {
+                            G game = searchGame != null ? searchGame : nodes.game(node);
+                            int pendingBatch = nodes.pendingBatch(node);
+                            if (pendingBatch != 0) {
+                                // another descent already reached this leaf
+                                leafValues[i] = Double.NaN;
+                                collided[i] = true;
+                            } else {
+                                leafValues[i] = exactValue(node, game);
+                                if (Double.isNaN(leafValues[i])) {
+                                    nodes.setPendingBatch(node, batch);
+                                    newLeaves[numNewLeaves++] = node;
+                                    long cloneStart = times == null ? 0 : System.nanoTime();
+                                    newLeafGames.add(searchGame != null ? game.clone() : game);
+                                    if (times != null) {
+                                        times.cloneNanos += System.nanoTime() - cloneStart;
+                                    }
+                                }
+                            }
+                            if (stats != null) {
+                                stats.addLeaf(pathLength - 1);
+                            }
+                            break;
+                        }
+                        child = findBestChild(node, random);
+                        nodes.addVirtualLoss(child, 1);
+                        if (searchGame == null) {
+                            materializeGame(node, child, times);
+                        }
+                    }
+                    if (searchGame != null) {
+                        undoTokens.add(doMove(searchGame, nodes.move(child)));
+                        nodes.setPlayer1Turn(child, searchGame.isPlayer1Turn());
+                    }
+                    if (pathLength == path.length) {
+                        path = Arrays.copyOf(path, pathLength * 2);
+                    }
+                    path[pathLength++] = child;
+                    node = child;
+                }
+            } finally {
+                for (int j=undoTokens.size()-1; j>=0; j--) {
+                    undoMove(searchGame, undoTokens.get(j));
+                }
+                undoTokens.clear();
+            }
+            paths[i] = path;
+            pathLengths[i] = pathLength;
+        }
+
+        long selected = times == null ? 0 : System.nanoTime();
+        double[] newLeafValues = new double[numNewLeaves];
+        if (numNewLeaves > 0) {
+            List<StateEvaluation<M>> evaluations = player.evaluateStates(newLeafGames);
+            long evaluated = times == null ? 0 : System.nanoTime();
+            for (int i=0; i<numNewLeaves; i++) {
+                int leaf = newLeaves[i];
+                synchronized (lock(leaf)) {
+                    addChildren(leaf, newLeafGames.get(i), evaluations.get(i));
+                    nodes.setPendingBatch(leaf, 0);
+                }
+                newLeafValues[i] = evaluations.get(i).stateValue;
+            }
+            if (times != null) {
+                stats.addEvaluation(evaluated - selected, numNewLeaves);
+                stats.addExpansion(System.nanoTime() - evaluated);
+            }
+        }
+        long expanded = times == null ? 0 : System.nanoTime();
+
+        for (int i=0; i<n; i++) {
+            int[] path = paths[i];
+            int leaf = path[pathLengths[i] - 1];
+            double leafValue = leafValues[i];
+            if (Double.isNaN(leafValue) && !collided[i]) {
+                // a leaf evaluated in this batch
+                for (int j=0; j<numNewLeaves; j++) {
+                    if (newLeaves[j] == leaf) {
+                        leafValue = newLeafValues[j];
+                        break;
+                    }
+                }
+            }
+            for (int j=pathLengths[i]-2; j>=0; j--) {
+                int node = path[j];
+                int child = path[j + 1];
+                if (nodes.isPlayer1Turn(child) != nodes.isPlayer1Turn(node)) {
+                    leafValue *= -1;
+                }
+                synchronized (lock(node)) {
+                    nodes.addVirtualLoss(child, -1);
+                    if (!collided[i]) {
+                        nodes.addVisit(node, leafValue);
+                    }
+                    if (!Double.isNaN(nodes.proven(child))) {
+                        updateProof(node);
+                    }
+                }
+            }
+        }
+
+        if (times != null) {
+            long end = System.nanoTime();
+            stats.addSelection(selected - start - times.cloneNanos);
+            stats.addExpansion(times.cloneNanos);
+            stats.addBackup(end - expanded);
+            stats.addIteration(end - start);
+        }
+    }
+
+    /**
+     * @param searchGame the game at this node in undo mode, or null to use the node's own game
+     * @param times null when not collecting stats
+     * @param depth the number of moves from the root to node
+     */
+    private double search(int node, G searchGame, Random random, IterationTimes times, int depth) {
+        int child;
+        synchronized (lock(node)) {
+            // expand node, or score it exactly if it is proven
+            if (nodes.numChildren(node) == 0 || !Double.isNaN(nodes.proven(node))) {
+                if (times == null) {
+                    return leafValue(node, searchGame != null ? searchGame : nodes.game(node));
+                }
+                times.leafStart = System.nanoTime();
+                stats.addLeaf(depth);
+                double stateValue = leafValue(node, searchGame != null ? searchGame : nodes.game(node));
+                times.leafEnd = System.nanoTime();
+                // have hit what was a leaf, no need to continue
+                return stateValue;
+            }
+
+            // search recursively
+            // select the move that that maximises an upper confidence bound
+            // Q(s, a) + U(s, a),
+            // where U(s, a) ∝ P(s, a)/(1 + N(s, a))
+            child = findBestChild(node, random);
+            nodes.addVirtualLoss(child, 1);
+            if (searchGame == null) {
+                materializeGame(node, child, times);
+            }
         }
 
-        // search recursively
-        // select the move that that maximises an upper confidence bound
-        // Q(s, a) + U(s, a),
-        // where U(s, a) ∝ P(s, a)/(1 + N(s, a))
-        MCTSMove maxScoreMove = findBestMove(node);
-        Node<M, G> child = node.children.get(maxScoreMove);
-        double leafValue = search(child);
+        double leafValue;
+        try {
+            if (searchGame != null) {
+                Object undoToken = doMove(searchGame, nodes.move(child));
+                try {
+                    nodes.setPlayer1Turn(child, searchGame.isPlayer1Turn());
+                    leafValue = search(child, searchGame, random, times, depth + 1);
+                } finally {
+                    undoMove(searchGame, undoToken);
+                }
+            } else {
+                leafValue = search(child, null, random, times, depth + 1);
+            }
+        } catch (RuntimeException e) {
+            synchronized (lock(node)) {
+                nodes.addVirtualLoss(child, -1);
+            }
+            throw e;
+        }
 
         // Flip sign if the child's isPlayer1 is different from this
-        if (child.game.isPlayer1Turn() != node.game.isPlayer1Turn()) {
+        if (nodes.isPlayer1Turn(child) != nodes.isPlayer1Turn(node)) {
             leafValue *= -1;
         }
 
         // increment visit count, update action value
-        node.visitCount++;
-        node.observedValueSum += leafValue;
+        synchronized (lock(node)) {
+            nodes.addVirtualLoss(child, -1);
+            nodes.addVisit(node, leafValue);
+            if (!Double.isNaN(nodes.proven(child))) {
+                updateProof(node);
+            }
+        }
 
         return leafValue;
     }
 
-    private MCTSMove findBestMove(Node<M, G> root) {
-        MCTSMove maxScoreMove = null;
-        double maxScore = -Double.MAX_VALUE;
-        var children = new ArrayList<>(root.children.entrySet());
-        Collections.shuffle(children, random);
+    /** The value of a node the search stops at: its proven value, or else its evaluation as it is expanded */
+    private double leafValue(int node, G game) {
+        double proven = nodes.proven(node);
+        return Double.isNaN(proven) ? expandNode(node, game) : proven;
+    }
+
+    /**
+     * Prove node if its children now prove it: a win if any child is a proven loss for the opponent,
+     * otherwise the best of the children's values once they are all proven. Must hold the lock on node.
+     */
+    private void updateProof(int node) {
+        if (!Double.isNaN(nodes.proven(node))) {
+            return;
+        }
+        int firstChild = nodes.firstChild(node);
+        int numChildren = nodes.numChildren(node);
+        boolean allProven = true;
+        double best = -Double.MAX_VALUE;
+        for (int child=firstChild; child<firstChild+numChildren; child++) {
+            double proven = nodes.proven(child);
+            if (Double.isNaN(proven)) {
+                allProven = false;
+                continue;
+            }
+            double value = opponentMultiplier(node, child) * proven;
+            if (value >= WIN) {
+                nodes.setProven(node, value);
+                return;
+            }
+            best = Math.max(best, value);
+        }
+        if (allProven && numChildren > 0) {
+            nodes.setProven(node, best);
+        }
+    }
+
+    /** Whether the child is proven to lose for the player to move at node */
+    private boolean isProvenLoss(int node, int child) {
+        double proven = nodes.proven(child);
+        return !Double.isNaN(proven) && opponentMultiplier(node, child) * proven <= -WIN;
+    }
 
+    private Object lock(int node) {
+        return locks[node & (NUM_LOCKS - 1)];
+    }
+
+    /** Must hold the lock on node. Ties are broken at random. */
+    private int findBestChild(int node, Random random) {
+        int firstChild = nodes.firstChild(node);
+        int numChildren = nodes.numChildren(node);
+
+        // Threads still searching below a child count as visits that lost
         int childVisitCountSum = 0;
-        for (var entry : children) {
-            Node<M, G> childNode = entry.getValue();
-            childVisitCountSum += childNode.visitCount;
+        for (int child=firstChild; child<firstChild+numChildren; child++) {
+            childVisitCountSum += nodes.visits(child) + nodes.virtualLoss(child);
         }
         double sqrtChildVisitCountSum = Math.sqrt(1 + childVisitCountSum);
 
-        for (var entry : children) {
-            Node<M, G> childNode = entry.getValue();
-            double opponentMultiplier = childNode.game.isPlayer1Turn() == root.game.isPlayer1Turn() ? 1.0 : -1.0;
-            double observedValueScore = childNode.visitCount == 0 ? 0.0 :
-                    opponentMultiplier * (childNode.observedValueSum / childNode.visitCount);
-            double priorScore = priorWeight * childNode.priorProb * sqrtChildVisitCountSum / (1.0 + childNode.visitCount);
+        int bestChild = NONE;
+        double maxScore = -Double.MAX_VALUE;
+        int numTied = 0;
+        for (int child=firstChild; child<firstChild+numChildren; child++) {
+            double observedValueScore = observedValueScore(node, child);
+            double priorScore = priorWeight * nodes.prior(child) * sqrtChildVisitCountSum
+                    / (1.0 + nodes.visits(child) + nodes.virtualLoss(child));
             double score = observedValueScore + priorScore;
+            if (isProvenLoss(node, child)) {
+                // only chosen if every child is, when another thread is about to prove node
+                score = -Double.MAX_VALUE;
+            }
             if (score > maxScore) {
                 maxScore = score;
-                maxScoreMove = entry.getKey();
+                bestChild = child;
+                numTied = 1;
+            } else if (score == maxScore && random.nextInt(++numTied) == 0) {
+                bestChild = child;
             }
         }
         // For debugging
-        if (maxScoreMove == null) {
-            for (var entry : children) {
-                Node<M, G> childNode = entry.getValue();
-                double opponentMultiplier = childNode.game.isPlayer1Turn() == root.game.isPlayer1Turn() ? 1.0 : -1.0;
-                double observedValueScore = childNode.visitCount == 0 ? 0.0 :
-                    opponentMultiplier * (childNode.observedValueSum / childNode.visitCount);
-                double priorScore = priorWeight * childNode.priorProb * sqrtChildVisitCountSum / (1.0 + childNode.visitCount);
-                double score = observedValueScore + priorScore;
+        if (bestChild == NONE) {
+            for (int child=firstChild; child<firstChild+numChildren; child++) {
+                double observedValueScore = observedValueScore(node, child);
+                double priorScore = priorWeight * nodes.prior(child) * sqrtChildVisitCountSum
+                        / (1.0 + nodes.visits(child) + nodes.virtualLoss(child));
                 System.out.println(String.format(
                         "observedValueScore: %f observedValueSum %f priorScore %f priorProb %f visitCount %d",
-                        observedValueScore, childNode.observedValueSum, priorScore, childNode.priorProb, childNode.visitCount));
-                if (score > maxScore) {
-                    maxScore = score;
-                    maxScoreMove = entry.getKey();
-                }
+                        observedValueScore, nodes.valueSum(child), priorScore, nodes.prior(child), nodes.visits(child)));
             }
             throw new RuntimeException("No max score move!");
         }
-        return maxScoreMove;
+        return bestChild;
     }
 
-    private double expandNode(Node<M, G> node) {
-        if (node.game.isTerminated()) {
-            node.observedValueSum = node.game.getFinalScore(node.game.isPlayer1Turn());
-            node.visitCount = 1;
-            return node.observedValueSum;
-        } else {
-            var stateEvaluation = player.evaluateState(node.game);
-            node.observedValueSum = 0;
-            node.visitCount = 0;
-            for (int i=0; i<stateEvaluation.moves.size(); i++) {
-                var move = stateEvaluation.moves.get(i);
-                var updatedGame = node.game.clone();
-                updatedGame.move(move);
-                node.children.put(move, new Node<M, G>(updatedGame, stateEvaluation.moveProbs.get(i), node));
-            }
-            return stateEvaluation.stateValue;
+    /**
+     * The child's mean value for the player to move at node, counting each virtual loss as a loss,
+     * or its exact value if it is proven
+     */
+    private double observedValueScore(int node, int child) {
+        double proven = nodes.proven(child);
+        if (!Double.isNaN(proven)) {
+            return opponentMultiplier(node, child) * proven;
         }
+        int visits = nodes.visits(child);
+        int virtualLoss = nodes.virtualLoss(child);
+        int n = visits + virtualLoss;
+        if (n == 0) {
+            return 0.0;
+        }
+        double valueSum = visits == 0 ? 0.0 : opponentMultiplier(node, child) * nodes.valueSum(child);
+        return (valueSum - virtualLoss) / n;
     }
 
-    public void advanceToMove(M move) {
-        if (root != null) {
-            root = root.children.get(move);
+    /** Only valid once the child has been visited, since that is when its turn is known in undo mode */
+    private double opponentMultiplier(int node, int child) {
+        return nodes.isPlayer1Turn(child) == nodes.isPlayer1Turn(node) ? 1.0 : -1.0;
+    }
+
+    private double expandNode(int node, G game) {
+        double exactValue = exactValue(node, game);
+        if (!Double.isNaN(exactValue)) {
+            return exactValue;
+        }
+        if (stats == null) {
+            var stateEvaluation = player.evaluateState(game);
+            addChildren(node, game, stateEvaluation);
+            return stateEvaluation.stateValue;
         }
+        long start = System.nanoTime();
+        var stateEvaluation = player.evaluateState(game);
+        long evaluated = System.nanoTime();
+        addChildren(node, game, stateEvaluation);
+        stats.addEvaluation(evaluated - start, 1);
+        stats.addExpansion(System.nanoTime() - evaluated);
+        return stateEvaluation.stateValue;
     }
 
-    public void resetRoot() {
-        root = null;
+    /**
+     * If the node is a finished game or in the tablebase, prove it and return its value.
+     * Otherwise return NaN, and it needs to be evaluated.
+     */
+    private double exactValue(int node, G game) {
+        if (game.isTerminated()) {
+            double value = game.getFinalScore(game.isPlayer1Turn());
+            nodes.setStats(node, 1, value);
+            nodes.setProven(node, value);
+            return value;
+        }
+        if (tablebase != null && node != root) {
+            double result = tablebase.probe(game, game.isPlayer1Turn());
+            if (!Double.isNaN(result)) {
+                nodes.setStats(node, 1, result);
+                nodes.setProven(node, result);
+                return result;
+            }
+        }
+        return Double.NaN;
     }
 
-    public static final class Node<M extends MCTSMove, G extends MCTSGame<M, G>> {
-        G game;
-        int visitCount = 0;
-        double observedValueSum = 0;
-        double priorProb;
-        Node<M, G> parent;
-        Map<M, Node<M, G>> children = new HashMap<>();
+    /**
+     * Children start with only their move and prior. Without make/unmake, a child's game is made
+     * from its parent's the first time the search descends to it. Must hold the lock on node.
+     */
+    private void addChildren(int node, G game, StateEvaluation<M> stateEvaluation) {
+        nodes.setStats(node, 0, 0);
+        int numChildren = stateEvaluation.moves.size();
+        if (numChildren == 0) {
+            return;
+        }
+        int firstChild = nodes.allocate(numChildren);
+        for (int i=0; i<numChildren; i++) {
+            int child = firstChild + i;
+            var move = stateEvaluation.moves.get(i);
+            nodes.setMove(child, move);
+            nodes.setPrior(child, stateEvaluation.moveProbs.get(i));
+        }
+        nodes.setChildren(node, firstChild, numChildren);
+    }
 
-        public Node(G game, double priorProb, Node<M, G> parent) {
-            this.game = game;
-            this.parent = parent;
-            this.priorProb = priorProb;
+    /**
+     * Give the child its game if this is the first visit to it. Must hold the lock on parent.
+     * @param times null when not collecting stats
+     */
+    private void materializeGame(int parent, int child, IterationTimes times) {
+        if (nodes.game(child) == null) {
+            long start = times == null ? 0 : System.nanoTime();
+            G game = nodes.game(parent).clone();
+            game.move(nodes.move(child));
+            nodes.setGame(child, game);
+            nodes.setPlayer1Turn(child, game.isPlayer1Turn());
+            if (times != null) {
+                times.cloneNanos += System.nanoTime() - start;
+            }
         }
+    }
 
-        @Override
-        public String toString() {
-            StringBuilder sb = new StringBuilder();
-            sb.append(String.format("%.3f (%d) %s %f\n%s\n",
-                    observedValueSum / (1.0 + visitCount), visitCount,
-                    game.isPlayer1Turn() ? "WHITE" : "BLACK", priorProb, game.toString()));
-            for (Node<M, G> child : children.values()) {
-                sb.append(String.format("%.3f (%d) %s\n",
-                    child.visitCount == 0 ? 0.0 : child.observedValueSum / child.visitCount,
-                    child.visitCount,
-                    child.game.isPlayer1Turn() ? "WHITE" : "BLACK"));
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Object doMove(G game, M move) {
+        return ((UndoableGame) game).doMove((Move) move);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private void undoMove(G game, Object undoToken) {
+        ((UndoableGame) game).undoMove(undoToken);
+    }
+
+    /** Keep the subtree under the move, moving it to the front of the spare arena, and drop the rest of the tree */
+    public void advanceToMove(M move) {
+        if (root == NONE) {
+            return;
+        }
+        int newRoot = NONE;
+        int firstChild = nodes.firstChild(root);
+        for (int child=firstChild; child<firstChild+nodes.numChildren(root); child++) {
+            if (nodes.move(child).equals(move)) {
+                newRoot = child;
+                break;
             }
-            return sb.toString();
         }
+        if (newRoot == NONE) {
+            resetRoot();
+            return;
+        }
+        int sizeBefore = nodes.size();
+        root = nodes.copySubtree(newRoot, spareNodes);
+        MCTSNodeArena<M, G> oldNodes = nodes;
+        nodes = spareNodes;
+        spareNodes = oldNodes;
+        spareNodes.clear();
+        if (stats != null) {
+            stats.treeAdvanced(sizeBefore, nodes.size());
+        }
+    }
+
+    public void resetRoot() {
+        if (stats != null && root != NONE) {
+            stats.treeAdvanced(nodes.size(), 0);
+        }
+        root = NONE;
+        nodes.clear();
+    }
+
+    /** The number of nodes in the tree, including the ones that have not been visited yet */
+    public int getNumNodes() {
+        return root == NONE ? 0 : nodes.size();
+    }
+
+    /** The number of values backed up to the root, one for each leaf evaluated below it */
+    int getRootVisits() {
+        return root == NONE ? 0 : nodes.visits(root);
     }
 
     public static interface MCTSPlayer<M extends MCTSMove, G extends MCTSGame<M, G>> {
         StateEvaluation<M> evaluateState(G game);
         M move(G game);
+
+        /** Evaluate several states at once. Players that can evaluate a batch faster than one at a time should override this. */
+        default List<StateEvaluation<M>> evaluateStates(List<G> games) {
+            List<StateEvaluation<M>> evaluations = new ArrayList<>(games.size());
+            for (G game : games) {
+                evaluations.add(evaluateState(game));
+            }
+            return evaluations;
+        }
     }
 
     public static interface MCTSGame<M extends MCTSMove, G extends MCTSGame<M, G>> {
@@ -212,11 +803,21 @@ public class MCTS<M extends MCTSMove, G extends MCTSGame<M, G>, P extends MCTSPl
 
     }
 
-    public MCTSResult<M> buildResult(Node<M, G> root) {
+    private MCTSResult<M> buildResult(int root) {
         List<Scored<M>> visitScoredMoves = new ArrayList<>();
-        for (Map.Entry<M, Node<M, G>> entry : root.children.entrySet()) {
-            visitScoredMoves.add(new Scored<M>(entry.getKey(), entry.getValue().visitCount));
+        int firstChild = nodes.firstChild(root);
+        int visitSum = 0;
+        for (int child=firstChild; child<firstChild+nodes.numChildren(root); child++) {
+            visitScoredMoves.add(new Scored<M>(nodes.move(child), nodes.visits(child)));
+            visitSum += nodes.visits(child);
         }
+        if (visitSum == 0) {
+            // a search stopped before it visited any move falls back on the priors
+            for (int i=0; i<visitScoredMoves.size(); i++) {
+                visitScoredMoves.get(i).score = nodes.prior(firstChild + i);
+            }
+        }
+        applyProofs(root, visitScoredMoves);
 
         // Handle the 0-exploration case
         if (explorationFactor <= 0.0) {
@@ -266,9 +867,50 @@ public class MCTS<M extends MCTSMove, G extends MCTSGame<M, G>, P extends MCTSPl
         return new MCTSResult<M>(scoredMoves, move);
     }
 
+    /** Proofs override the visit counts: play the most visited proven win if there is one, and never a proven loss */
+    private void applyProofs(int root, List<Scored<M>> scoredMoves) {
+        int firstChild = nodes.firstChild(root);
+        int win = NONE;
+        boolean allLosses = true;
+        for (int i=0; i<scoredMoves.size(); i++) {
+            int child = firstChild + i;
+            double proven = nodes.proven(child);
+            if (!Double.isNaN(proven) && opponentMultiplier(root, child) * proven >= WIN
+                    && (win == NONE || nodes.visits(child) > nodes.visits(win))) {
+                win = child;
+            }
+            allLosses &= isProvenLoss(root, child);
+        }
+        if (win != NONE) {
+            for (int i=0; i<scoredMoves.size(); i++) {
+                scoredMoves.get(i).score = firstChild + i == win ? 1.0 : 0.0;
+            }
+        } else if (!allLosses) {
+            double sum = 0;
+            for (int i=0; i<scoredMoves.size(); i++) {
+                if (isProvenLoss(root, firstChild + i)) {
+                    scoredMoves.get(i).score = 0.0;
+                }
+                sum += scoredMoves.get(i).score;
+            }
+            if (sum == 0) {
+                // the search only visited the losses
+                for (int i=0; i<scoredMoves.size(); i++) {
+                    scoredMoves.get(i).score = isProvenLoss(root, firstChild + i) ? 0.0 : 1.0;
+                }
+            }
+        }
+    }
+
     public static final class MCTSResult<M extends MCTSMove> {
         public List<Scored<M>> scoredMoves;
         public M chosenMove;
+        // The number of iterations the search ran
+        public int numIterations;
+        // The number of iterations early stopping saved
+        public int numIterationsSaved;
+        // The root's exact value for the player to move, if the search proved it, or NaN
+        public double provenValue = Double.NaN;
 
         public MCTSResult(List<Scored<M>> scoredMoves, M chosenMove) {
             this.scoredMoves = scoredMoves;
@@ -284,4 +926,66 @@ public class MCTS<M extends MCTSMove, G extends MCTSGame<M, G>, P extends MCTSPl
     public void setExplorationFactor(double e) {
         this.explorationFactor = e;
     }
+
+    /**
+     * Search with this many threads sharing the tree. The player's evaluateState must be safe
+     * to call from several threads. 1, the default, searches on the calling thread.
+     */
+    public void setNumThreads(int numThreads) {
+        if (numThreads < 1) {
+            throw new RuntimeException("Number of threads must be >= 1");
+        }
+        if (searchExecutor != null) {
+            searchExecutor.shutdown();
+            searchExecutor = null;
+        }
+        this.numThreads = numThreads;
+    }
+
+    public int getNumThreads() {
+        return numThreads;
+    }
+
+    /**
+     * Descend to this many leaves before evaluating them together with the player's evaluateStates.
+     * Larger batches evaluate faster but search less selectively. 1, the default, evaluates each leaf as it is reached.
+     */
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new RuntimeException("Batch size must be >= 1");
+        }
+        this.batchSize = batchSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Stop a search once the most visited move leads the runner-up by more than this fraction of the
+     * iterations left. 1 stops only when the most visited move can no longer change; less than 1 stops sooner,
+     * betting that the runner-up would not win every iteration left. 0, the default, always runs every iteration.
+     * A position with a single move then returns without searching.
+     * The visit counts of a search stopped early are less spread out than those of a full one.
+     */
+    public void setEarlyStopping(double fraction) {
+        if (fraction < 0) {
+            throw new RuntimeException("Early stopping fraction must be >= 0");
+        }
+        this.earlyStopping = fraction;
+    }
+
+    /** Collect where each search spends its time into stats, or stop collecting if it is null */
+    public void setStats(MCTSStats stats) {
+        this.stats = stats;
+    }
+
+    public MCTSStats getStats() {
+        return stats;
+    }
+
+    /** Score positions in the tablebase with their exact result instead of evaluating and expanding them */
+    public void setTablebase(Tablebase<G> tablebase) {
+        this.tablebase = tablebase;
+    }
 }
@@ -0,0 +1,126 @@
+package com.dillard.games.checkers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.dillard.games.checkers.MCTS.MCTSGame;
+import com.dillard.games.checkers.MCTS.MCTSMove;
+import com.dillard.games.checkers.MCTS.MCTSPlayer;
+
+/** Checks that batched searches count each evaluated leaf exactly once, however many descents reach it */
+public class MCTSBatchTest {
+    public static void main(String[] args) {
+        testDuplicateInOneBatch();
+
+        testVisitsMatchEvaluations(1, 1);
+        testVisitsMatchEvaluations(1, 8);
+        testVisitsMatchEvaluations(4, 8);
+
+        System.out.println("Everything OK.");
+    }
+
+    /** With a single move at each position, every descent of a batch reaches the same new leaf */
+    private static void testDuplicateInOneBatch() {
+        int batchSize = 8;
+        CountingPlayer player = new CountingPlayer();
+        var mcts = new MCTS<TreeMove, TreeGame, CountingPlayer>(player, 1.0, 1.0, new Random(1));
+        mcts.setBatchSize(batchSize);
+        TreeGame game = new TreeGame(1);
+
+        mcts.search(game, batchSize, false);
+        // one evaluation to expand the root, and one for the leaf all the descents reached
+        assertTrue(player.evaluations.get() == 2, "One leaf evaluated, got " + (player.evaluations.get() - 1));
+        assertTrue(mcts.getRootVisits() == 1, "The leaf's value is backed up once, not " + mcts.getRootVisits());
+
+        mcts.search(game, 10 * batchSize, false);
+        assertTrue(mcts.getRootVisits() == player.evaluations.get() - 1,
+                "One visit per evaluated leaf: " + mcts.getRootVisits()
+                + " visits, " + (player.evaluations.get() - 1) + " leaves");
+    }
+
+    private static void testVisitsMatchEvaluations(int numThreads, int batchSize) {
+        CountingPlayer player = new CountingPlayer();
+        var mcts = new MCTS<TreeMove, TreeGame, CountingPlayer>(player, 1.0, 1.0, new Random(2));
+        mcts.setNumThreads(numThreads);
+        mcts.setBatchSize(batchSize);
+        TreeGame game = new TreeGame(2);
+
+        mcts.search(game, 2000, false);
+        int visits = mcts.getRootVisits();
+        assertTrue(visits == player.evaluations.get() - 1, String.format(
+                "%d threads, batch size %d: %d visits, %d leaves evaluated",
+                numThreads, batchSize, visits, player.evaluations.get() - 1));
+    }
+
+    public static void assertTrue(boolean value, String msg) {
+        if (!value) throw new RuntimeException(msg);
+    }
+
+    private static final class TreeMove implements MCTSMove {
+    }
+
+    /** A game with the same moves at every position, too deep to ever end in the test */
+    private static final class TreeGame implements MCTSGame<TreeMove, TreeGame> {
+        private static final int DEPTH = 64;
+        final List<TreeMove> moves;
+        int depth = 0;
+
+        TreeGame(int numMoves) {
+            moves = new ArrayList<>();
+            for (int i=0; i<numMoves; i++) {
+                moves.add(new TreeMove());
+            }
+        }
+
+        private TreeGame(List<TreeMove> moves, int depth) {
+            this.moves = moves;
+            this.depth = depth;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return depth >= DEPTH;
+        }
+
+        @Override
+        public double getFinalScore(boolean player1) {
+            return 0;
+        }
+
+        @Override
+        public boolean isPlayer1Turn() {
+            return depth % 2 == 0;
+        }
+
+        @Override
+        public TreeGame clone() {
+            return new TreeGame(moves, depth);
+        }
+
+        @Override
+        public void move(TreeMove move) {
+            depth++;
+        }
+    }
+
+    private static final class CountingPlayer implements MCTSPlayer<TreeMove, TreeGame> {
+        final AtomicInteger evaluations = new AtomicInteger();
+
+        @Override
+        public StateEvaluation<TreeMove> evaluateState(TreeGame game) {
+            evaluations.incrementAndGet();
+            List<Double> probs = new ArrayList<>();
+            for (int i=0; i<game.moves.size(); i++) {
+                probs.add(1.0 / game.moves.size());
+            }
+            return new StateEvaluation<>(0.1, game.moves, probs);
+        }
+
+        @Override
+        public TreeMove move(TreeGame game) {
+            return game.moves.get(0);
+        }
+    }
+}
@@ -1,25 +1,48 @@
 package com.dillard.games.checkers;
 
+import java.time.Duration;
 import java.util.Random;
 
+import com.dillard.games.OpeningBook;
 import com.dillard.games.checkers.MCTS.MCTSPlayer;
 
 public class MCTSCheckersPlayer implements CheckersPlayer {
     private int numIterations;
+    private Duration timeBudget = null;
     private MCTS<CheckersMove, CheckersGame, MCTSPlayer<CheckersMove, CheckersGame>> mcts;
+    private Random random;
+    private OpeningBook<CheckersMove, CheckersGame> openingBook = null;
 
     public MCTSCheckersPlayer(MCTSPlayer<CheckersMove, CheckersGame> player, int numIterations, double priorWeight, Random random) {
         this.numIterations = numIterations;
         this.mcts = new MCTS<CheckersMove, CheckersGame, MCTSPlayer<CheckersMove, CheckersGame>>(
                 player, priorWeight, 0, random);
+        this.random = random;
     }
 
     @Override
     public CheckersMove move(CheckersGame game) {
+        if (openingBook != null) {
+            CheckersMove bookMove = openingBook.move(game, random);
+            if (bookMove != null) {
+                return bookMove;
+            }
+        }
         mcts.resetRoot(); // Cannot reuse search trees through this interface because we don't know about the opponent's moves
-        var result = mcts.search(game, numIterations, true);
+        var result = timeBudget == null
+                ? mcts.search(game, numIterations, true)
+                : mcts.search(game, timeBudget, true);
         mcts.advanceToMove(result.chosenMove);
         return result.chosenMove;
     }
 
+    /** Search for this long per move instead of a fixed number of iterations. null goes back to iterations. */
+    public void setTimeBudget(Duration timeBudget) {
+        this.timeBudget = timeBudget;
+    }
+
+    /** Play moves from the book in positions it has, instead of searching */
+    public void setOpeningBook(OpeningBook<CheckersMove, CheckersGame> openingBook) {
+        this.openingBook = openingBook;
+    }
 }
@@ -0,0 +1,251 @@
+package com.dillard.games.checkers;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**
+ * The nodes of an MCTS tree, stored as arrays of primitives indexed by node number instead of one object per node.
+ * The children of a node are numbered consecutively, so a node only records its first child and how many it has.
+ *
+ * The arrays are allocated in fixed-size chunks, so the arena can grow while other threads are reading it.
+ * Clearing the arena keeps the chunks, so the next tree is built without allocating.
+ */
+final class MCTSNodeArena<M, G> {
+    static final int NONE = -1;
+
+    private static final int CHUNK_BITS = 12;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private static final VarHandle INTS = MethodHandles.arrayElementVarHandle(int[].class);
+    private static final VarHandle DOUBLES = MethodHandles.arrayElementVarHandle(double[].class);
+
+    private static final class Chunk {
+        final int[] firstChild = new int[CHUNK_SIZE];
+        final int[] numChildren = new int[CHUNK_SIZE];
+        final float[] prior = new float[CHUNK_SIZE];
+        // Updated under the node's lock, but read by other threads while choosing among siblings
+        final int[] visits = new int[CHUNK_SIZE];
+        final double[] valueSum = new double[CHUNK_SIZE];
+        // Threads currently searching below the node. Updated under the parent's lock.
+        final int[] virtualLoss = new int[CHUNK_SIZE];
+        final boolean[] player1Turn = new boolean[CHUNK_SIZE];
+        // The exact value for the player to move, once the node is solved, or NaN. Set under the node's lock.
+        // Other threads may see it late, which only delays using the proof.
+        final float[] proven = new float[CHUNK_SIZE];
+        // In batch mode, the batch the node is waiting to be evaluated in, or 0
+        final int[] pendingBatch = new int[CHUNK_SIZE];
+        // The move from the parent
+        final Object[] move = new Object[CHUNK_SIZE];
+        // null in undo mode, and until the search first descends to the node
+        final Object[] game = new Object[CHUNK_SIZE];
+    }
+
+    private volatile Chunk[] chunks = new Chunk[0];
+    private int size = 0;
+
+    /**
+     * Add n nodes with consecutive numbers, all in one chunk, and return the first.
+     * The nodes start with no children, no visits and no move or game.
+     */
+    synchronized int allocate(int n) {
+        if (n < 1 || n > CHUNK_SIZE) {
+            throw new RuntimeException("Can't allocate " + n + " MCTS nodes together");
+        }
+        int first = size;
+        if ((first & CHUNK_MASK) + n > CHUNK_SIZE) {
+            // skip to the start of the next chunk
+            first = (first + CHUNK_MASK) & ~CHUNK_MASK;
+        }
+        int chunkIndex = (first + n - 1) >>> CHUNK_BITS;
+        if (chunkIndex >= chunks.length) {
+            Chunk[] grown = Arrays.copyOf(chunks, chunkIndex + 1);
+            for (int i=chunks.length; i<grown.length; i++) {
+                grown[i] = new Chunk();
+            }
+            chunks = grown;
+        }
+        Chunk chunk = chunks[chunkIndex];
+        for (int node=first; node<first+n; node++) {
+            int i = node & CHUNK_MASK;
+            chunk.firstChild[i] = NONE;
+            chunk.numChildren[i] = 0;
+            chunk.prior[i] = 0;
+            chunk.visits[i] = 0;
+            chunk.valueSum[i] = 0;
+            chunk.virtualLoss[i] = 0;
+            chunk.player1Turn[i] = false;
+            chunk.proven[i] = Float.NaN;
+            chunk.pendingBatch[i] = 0;
+            chunk.move[i] = null;
+            chunk.game[i] = null;
+        }
+        size = first + n;
+        return first;
+    }
+
+    /** Remove every node, keeping the storage. Must not be called while a search is running. */
+    synchronized void clear() {
+        // let go of the moves and games
+        for (int c=0; c<chunks.length && c << CHUNK_BITS < size; c++) {
+            Arrays.fill(chunks[c].move, null);
+            Arrays.fill(chunks[c].game, null);
+        }
+        size = 0;
+    }
+
+    /** The number of node numbers used, including any skipped at the ends of chunks */
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Clear target and copy the subtree under root into it, numbering the nodes breadth-first.
+     * Return root's number in target. Must not be called while a search is running.
+     */
+    int copySubtree(int root, MCTSNodeArena<M, G> target) {
+        target.clear();
+        int newRoot = target.allocate(1);
+        copyNode(root, target, newRoot);
+        // pairs of (node here, node in target) whose children still need copying
+        int[] queue = new int[64];
+        int head = 0, tail = 0;
+        queue[tail++] = root;
+        queue[tail++] = newRoot;
+        while (head < tail) {
+            int node = queue[head++];
+            int targetNode = queue[head++];
+            int n = numChildren(node);
+            if (n == 0) {
+                continue;
+            }
+            int first = firstChild(node);
+            int targetFirst = target.allocate(n);
+            for (int i=0; i<n; i++) {
+                copyNode(first + i, target, targetFirst + i);
+                if (numChildren(first + i) > 0) {
+                    if (tail + 2 > queue.length) {
+                        // compact the queue before growing it
+                        System.arraycopy(queue, head, queue, 0, tail - head);
+                        tail -= head;
+                        head = 0;
+                        if (tail + 2 > queue.length) {
+                            queue = Arrays.copyOf(queue, queue.length * 2);
+                        }
+                    }
+                    queue[tail++] = first + i;
+                    queue[tail++] = targetFirst + i;
+                }
+            }
+            target.setChildren(targetNode, targetFirst, n);
+        }
+        return newRoot;
+    }
+
+    private void copyNode(int node, MCTSNodeArena<M, G> target, int targetNode) {
+        Chunk from = chunk(node), to = target.chunk(targetNode);
+        int i = node & CHUNK_MASK, j = targetNode & CHUNK_MASK;
+        to.prior[j] = from.prior[i];
+        to.visits[j] = from.visits[i];
+        to.valueSum[j] = from.valueSum[i];
+        to.player1Turn[j] = from.player1Turn[i];
+        to.proven[j] = from.proven[i];
+        to.move[j] = from.move[i];
+        to.game[j] = from.game[i];
+    }
+
+    private Chunk chunk(int node) {
+        return chunks[node >>> CHUNK_BITS];
+    }
+
+    int firstChild(int node) {
+        return chunk(node).firstChild[node & CHUNK_MASK];
+    }
+
+    int numChildren(int node) {
+        return chunk(node).numChildren[node & CHUNK_MASK];
+    }
+
+    void setChildren(int node, int firstChild, int numChildren) {
+        Chunk chunk = chunk(node);
+        chunk.firstChild[node & CHUNK_MASK] = firstChild;
+        chunk.numChildren[node & CHUNK_MASK] = numChildren;
+    }
+
+    double prior(int node) {
+        return chunk(node).prior[node & CHUNK_MASK];
+    }
+
+    void setPrior(int node, double prior) {
+        chunk(node).prior[node & CHUNK_MASK] = (float) prior;
+    }
+
+    int visits(int node) {
+        return (int) INTS.getVolatile(chunk(node).visits, node & CHUNK_MASK);
+    }
+
+    double valueSum(int node) {
+        return (double) DOUBLES.getVolatile(chunk(node).valueSum, node & CHUNK_MASK);
+    }
+
+    void setStats(int node, int visits, double valueSum) {
+        Chunk chunk = chunk(node);
+        DOUBLES.setVolatile(chunk.valueSum, node & CHUNK_MASK, valueSum);
+        INTS.setVolatile(chunk.visits, node & CHUNK_MASK, visits);
+    }
+
+    void addVisit(int node, double value) {
+        setStats(node, visits(node) + 1, valueSum(node) + value);
+    }
+
+    int virtualLoss(int node) {
+        return chunk(node).virtualLoss[node & CHUNK_MASK];
+    }
+
+    void addVirtualLoss(int node, int n) {
+        chunk(node).virtualLoss[node & CHUNK_MASK] += n;
+    }
+
+    boolean isPlayer1Turn(int node) {
+        return chunk(node).player1Turn[node & CHUNK_MASK];
+    }
+
+    void setPlayer1Turn(int node, boolean player1Turn) {
+        chunk(node).player1Turn[node & CHUNK_MASK] = player1Turn;
+    }
+
+    double proven(int node) {
+        return chunk(node).proven[node & CHUNK_MASK];
+    }
+
+    void setProven(int node, double value) {
+        chunk(node).proven[node & CHUNK_MASK] = (float) value;
+    }
+
+    int pendingBatch(int node) {
+        return chunk(node).pendingBatch[node & CHUNK_MASK];
+    }
+
+    void setPendingBatch(int node, int batch) {
+        chunk(node).pendingBatch[node & CHUNK_MASK] = batch;
+    }
+
+    @SuppressWarnings("unchecked")
+    M move(int node) {
+        return (M) chunk(node).move[node & CHUNK_MASK];
+    }
+
+    void setMove(int node, M move) {
+        chunk(node).move[node & CHUNK_MASK] = move;
+    }
+
+    @SuppressWarnings("unchecked")
+    G game(int node) {
+        return (G) chunk(node).game[node & CHUNK_MASK];
+    }
+
+    void setGame(int node, G game) {
+        chunk(node).game[node & CHUNK_MASK] = game;
+    }
+}
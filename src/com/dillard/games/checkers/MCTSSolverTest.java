@@ -0,0 +1,48 @@
+package com.dillard.games.checkers;
+
+import java.util.Random;
+
+import com.dillard.games.checkers.MCTS.MCTSResult;
+
+/** Checks that the search proves a won position and plays the win, whatever the prior says */
+public class MCTSSolverTest {
+    private static final int MAX_ITERATIONS = 10000;
+
+    public static void main(String[] args) {
+        testWonInOne(1, 1);
+        testWonInOne(1, 8);
+        testWonInOne(4, 8);
+
+        System.out.println("Everything OK.");
+    }
+
+    /** The white king blocks the black king into its corner, and black has no moves */
+    private static void testWonInOne(int numThreads, int batchSize) {
+        CheckersGame game = CheckersTest.position(true,
+                "........",
+                "..w.....",
+                "........",
+                "........",
+                "...W....",
+                "........",
+                ".w......",
+                "B.......");
+        CheckersMove win = CheckersTest.move(3, 3, 2, 2);
+        assertTrue(game.getMoves().size() > 1 && game.getMoves().contains(win), "White has the win and other moves");
+
+        var mcts = new MCTS<CheckersMove, CheckersGame, RandomCheckersPlayer>(
+                new RandomCheckersPlayer(new Random(1)), 1.0, 1.0, new Random(1));
+        mcts.setNumThreads(numThreads);
+        mcts.setBatchSize(batchSize);
+        MCTSResult<CheckersMove> result = mcts.search(game, MAX_ITERATIONS, false);
+
+        String setup = numThreads + " threads, batch size " + batchSize + ": ";
+        assertTrue(result.provenValue == 1.0, setup + "Root should be a proven win, got " + result.provenValue);
+        assertTrue(result.chosenMove == win, setup + "Should play " + win + ", not " + result.chosenMove);
+        assertTrue(result.numIterations < MAX_ITERATIONS, setup + "The search should stop once the root is proven");
+    }
+
+    public static void assertTrue(boolean value, String msg) {
+        if (!value) throw new RuntimeException(msg);
+    }
+}
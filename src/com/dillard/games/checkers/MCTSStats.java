@@ -0,0 +1,188 @@
+package com.dillard.games.checkers;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects where an MCTS search spends its time. Set it on an MCTS with setStats; it starts over at the
+ * start of each search, and afterwards holds the numbers for that search. If it has a JSON output,
+ * it writes them there as one JSON object per line after every search.
+ *
+ * Time is split between selection (descending the tree), evaluation (the player's evaluateState calls),
+ * expansion (adding children and cloning games) and backup (updating the statistics on the way back up).
+ * Depth is the number of moves from the root to the leaf an iteration reached.
+ */
+public class MCTSStats {
+    private final LongAdder selectionNanos = new LongAdder();
+    private final LongAdder evaluationNanos = new LongAdder();
+    private final LongAdder expansionNanos = new LongAdder();
+    private final LongAdder backupNanos = new LongAdder();
+    private final LongAdder numLeaves = new LongAdder();
+    private final LongAdder depthSum = new LongAdder();
+    private final LongAccumulator maxDepth = new LongAccumulator(Math::max, 0);
+    private final LongAdder numEvaluations = new LongAdder();
+    // one sample per evaluateState call, or per evaluateStates call in batch mode
+    private final LatencyHistogram evaluationLatency = new LatencyHistogram();
+    // one sample per iteration, or per batch in batch mode
+    private final LatencyHistogram iterationLatency = new LatencyHistogram();
+
+    private Writer jsonOutput = null;
+    private int numSearches = 0;
+    private long searchStartNanos;
+    private int startNodes;
+    // set by advanceToMove or resetRoot for the next search, or -1 if neither was called since the last search
+    private int nodesBeforeAdvance = -1;
+    private int nodesKept = -1;
+
+    // the last search
+    private int iterations;
+    private int iterationsSaved;
+    private long elapsedNanos;
+    private int treeNodes;
+    private double reuseRate = Double.NaN;
+    private String json = null;
+
+    /** Write each search's numbers to out as a line of JSON. Several MCTSStats can share one writer. */
+    public void setJsonOutput(Writer out) {
+        this.jsonOutput = out;
+    }
+
+    void startSearch(int nodes) {
+        selectionNanos.reset();
+        evaluationNanos.reset();
+        expansionNanos.reset();
+        backupNanos.reset();
+        numLeaves.reset();
+        depthSum.reset();
+        maxDepth.reset();
+        numEvaluations.reset();
+        evaluationLatency.reset();
+        iterationLatency.reset();
+        startNodes = nodes;
+        reuseRate = nodesBeforeAdvance > 0 ? nodesKept / (double) nodesBeforeAdvance : Double.NaN;
+        searchStartNanos = System.nanoTime();
+    }
+
+    void endSearch(int iterations, int iterationsSaved, int nodes) {
+        this.elapsedNanos = System.nanoTime() - searchStartNanos;
+        this.iterations = iterations;
+        this.iterationsSaved = iterationsSaved;
+        this.treeNodes = nodes;
+        numSearches++;
+        json = buildJson();
+        if (jsonOutput != null) {
+            try {
+                synchronized (jsonOutput) {
+                    jsonOutput.write(json);
+                    jsonOutput.write('\n');
+                    jsonOutput.flush();
+                }
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        nodesBeforeAdvance = -1;
+        nodesKept = -1;
+    }
+
+    void treeAdvanced(int nodesBefore, int nodesAfter) {
+        nodesBeforeAdvance = nodesBefore;
+        nodesKept = nodesAfter;
+    }
+
+    void addSelection(long nanos) {
+        selectionNanos.add(nanos);
+    }
+
+    void addEvaluation(long nanos, int numStates) {
+        evaluationNanos.add(nanos);
+        numEvaluations.add(numStates);
+        evaluationLatency.record(nanos);
+    }
+
+    void addExpansion(long nanos) {
+        expansionNanos.add(nanos);
+    }
+
+    void addBackup(long nanos) {
+        backupNanos.add(nanos);
+    }
+
+    void addIteration(long nanos) {
+        iterationLatency.record(nanos);
+    }
+
+    void addLeaf(int depth) {
+        numLeaves.increment();
+        depthSum.add(depth);
+        maxDepth.accumulate(depth);
+    }
+
+    private String buildJson() {
+        double seconds = elapsedNanos / 1e9;
+        return String.format(Locale.ROOT, "{\"search\":%d,\"iterations\":%d,\"iterationsSaved\":%d,\"elapsedMs\":%.3f,\"iterationsPerSec\":%.1f,"
+                + "\"nodesPerSec\":%.1f,\"treeNodes\":%d,\"reuseRate\":%s,\"maxDepth\":%d,\"meanDepth\":%.2f,"
+                + "\"selectionMs\":%.3f,\"evaluationMs\":%.3f,\"expansionMs\":%.3f,\"backupMs\":%.3f,"
+                + "\"evaluations\":%d,\"evaluationLatencyUs\":%s,\"iterationLatencyUs\":%s}",
+                numSearches, iterations, iterationsSaved, elapsedNanos / 1e6, iterations / seconds,
+                (treeNodes - startNodes) / seconds, treeNodes,
+                Double.isNaN(reuseRate) ? "null" : String.format(Locale.ROOT, "%.4f", reuseRate),
+                maxDepth.get(), getMeanDepth(),
+                selectionNanos.sum() / 1e6, evaluationNanos.sum() / 1e6, expansionNanos.sum() / 1e6,
+                backupNanos.sum() / 1e6, numEvaluations.sum(),
+                percentilesJson(evaluationLatency), percentilesJson(iterationLatency));
+    }
+
+    private static String percentilesJson(LatencyHistogram histogram) {
+        return String.format(Locale.ROOT, "{\"count\":%d,\"p50\":%.1f,\"p90\":%.1f,\"p99\":%.1f,\"max\":%.1f}",
+                histogram.getCount(), histogram.getPercentile(0.5) / 1e3, histogram.getPercentile(0.9) / 1e3,
+                histogram.getPercentile(0.99) / 1e3, histogram.getMax() / 1e3);
+    }
+
+    /** The last search's numbers as one line of JSON, or null before the first search */
+    public String toJson() {
+        return json;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    /** The iterations early stopping saved */
+    public int getIterationsSaved() {
+        return iterationsSaved;
+    }
+
+    public double getIterationsPerSecond() {
+        return iterations / (elapsedNanos / 1e9);
+    }
+
+    public int getTreeNodes() {
+        return treeNodes;
+    }
+
+    /** The fraction of the tree that advanceToMove kept before the last search, or NaN if it started from scratch */
+    public double getReuseRate() {
+        return reuseRate;
+    }
+
+    public long getMaxDepth() {
+        return maxDepth.get();
+    }
+
+    public double getMeanDepth() {
+        long leaves = numLeaves.sum();
+        return leaves == 0 ? 0.0 : depthSum.sum() / (double) leaves;
+    }
+
+    public LatencyHistogram getEvaluationLatency() {
+        return evaluationLatency;
+    }
+
+    public LatencyHistogram getIterationLatency() {
+        return iterationLatency;
+    }
+}
@@ -1,25 +1,76 @@
-package com.dillard.games.checkers;
-
-import java.util.List;
-
-import com.dillard.games.checkers.MCTS.MCTSPlayer;
-
-public class NNCheckersPlayer implements CheckersPlayer, MCTSPlayer<CheckersMove, CheckersGame> {
-    private CheckersValueNN nn;
-
-	public NNCheckersPlayer(CheckersValueNN nn) {
-	    this.nn = nn;
-	}
-
-    @Override
-    public CheckersMove move(CheckersGame game) {
-        // Should really be using MCTS anyway
-//        return explainMove(game).move;
-        throw new UnsupportedOperationException();
-    }
-
-    public StateEvaluation<CheckersMove> evaluateState(CheckersGame game) {
-        List<CheckersMove> moves = game.getMoves();
-        return nn.evaluateState(game, moves);
-    }
-}
+package com.dillard.games.checkers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.dillard.games.checkers.MCTS.MCTSPlayer;
+
+public class NNCheckersPlayer implements CheckersPlayer, MCTSPlayer<CheckersMove, CheckersGame> {
+    private CheckersValueNN nn;
+    private EvaluationCache<CheckersMove> evaluationCache = null;
+
+	public NNCheckersPlayer(CheckersValueNN nn) {
+	    this.nn = nn;
+	}
+
+    @Override
+    public CheckersMove move(CheckersGame game) {
+        // Should really be using MCTS anyway
+//        return explainMove(game).move;
+        throw new UnsupportedOperationException();
+    }
+
+    public StateEvaluation<CheckersMove> evaluateState(CheckersGame game) {
+        if (evaluationCache == null) {
+            return nn.evaluateState(game, game.getMoves());
+        }
+        long hash = game.positionHash();
+        long version = nn.getVersion();
+        StateEvaluation<CheckersMove> evaluation = evaluationCache.get(hash, version);
+        if (evaluation == null) {
+            evaluation = nn.evaluateState(game, game.getMoves());
+            evaluationCache.put(hash, version, evaluation);
+        }
+        return evaluation;
+    }
+
+    @Override
+    public List<StateEvaluation<CheckersMove>> evaluateStates(List<CheckersGame> games) {
+        if (evaluationCache == null) {
+            return nn.evaluateStates(games);
+        }
+        // evaluate the positions that aren't in the cache as one batch
+        long version = nn.getVersion();
+        List<StateEvaluation<CheckersMove>> evaluations = new ArrayList<>(games.size());
+        List<CheckersGame> misses = new ArrayList<>();
+        long[] hashes = new long[games.size()];
+        for (int i=0; i<games.size(); i++) {
+            hashes[i] = games.get(i).positionHash();
+            StateEvaluation<CheckersMove> evaluation = evaluationCache.get(hashes[i], version);
+            evaluations.add(evaluation);
+            if (evaluation == null) {
+                misses.add(games.get(i));
+            }
+        }
+        if (!misses.isEmpty()) {
+            List<StateEvaluation<CheckersMove>> missEvaluations = nn.evaluateStates(misses);
+            int next = 0;
+            for (int i=0; i<games.size(); i++) {
+                if (evaluations.get(i) == null) {
+                    StateEvaluation<CheckersMove> evaluation = missEvaluations.get(next++);
+                    evaluationCache.put(hashes[i], version, evaluation);
+                    evaluations.set(i, evaluation);
+                }
+            }
+        }
+        return evaluations;
+    }
+
+    /**
+     * Look up positions in the cache before evaluating them, and add the new evaluations.
+     * The cache can be shared by any number of players and threads.
+     */
+    public void setEvaluationCache(EvaluationCache<CheckersMove> evaluationCache) {
+        this.evaluationCache = evaluationCache;
+    }
+}
@@ -1,7 +1,7 @@
-package com.dillard.games.checkers;
-
-import java.io.Serializable;
-
-public enum PieceColor implements Serializable {
-	BLACK, WHITE;
-}
+package com.dillard.games.checkers;
+
+import java.io.Serializable;
+
+public enum PieceColor implements Serializable {
+	BLACK, WHITE;
+}
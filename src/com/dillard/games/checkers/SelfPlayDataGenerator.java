@@ -1,9 +1,12 @@
 package com.dillard.games.checkers;
 
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.atomic.LongAdder;
 
+import com.dillard.games.OpeningBook;
 import com.dillard.games.checkers.MCTS.MCTSResult;
 
 public class SelfPlayDataGenerator {
@@ -11,7 +14,20 @@ public class SelfPlayDataGenerator {
     private double explorationFactor = 1.0; // TODO start at 1.0, anneal down to 0
     final double MCTS_PRIOR_WEIGHT = 20.0; // higher values the priors more vs. the state values
     private int numMCTSIters = 200;
+    // Playout cap randomization: only this fraction of moves get a full search and a training example.
+    // The rest get a fast search of fastMCTSIters, without Dirichlet noise.
+    private double fullSearchFraction = 1.0;
+    private int fastMCTSIters = 50;
     final double MAX_ERROR_VALUE = 3;
+    private OpeningBook<CheckersMove, CheckersGame> openingBook = null;
+    private EvaluationCache<CheckersMove> evaluationCache = null;
+    private Writer mctsStatsOutput = null;
+    private double earlyStopping = 0;
+    // over all games, which may be played on several threads
+    private final LongAdder mctsIterations = new LongAdder();
+    private final LongAdder mctsIterationsSaved = new LongAdder();
+    private final LongAdder numFullSearches = new LongAdder();
+    private final LongAdder numFastSearches = new LongAdder();
 
     public SelfPlayDataGenerator(Random random) {
         this.random = random;
@@ -22,14 +38,26 @@ public class SelfPlayDataGenerator {
         CheckersGame game = new CheckersGame(Math.random() < 0.5);
         boolean startingPlayer1Turn = game.isPlayer1Turn();
         NNCheckersPlayer player = new NNCheckersPlayer(nn);
+        player.setEvaluationCache(evaluationCache);
 
         List<TrainingExample> trainingExamples = new ArrayList<>();
+        List<CheckersMove> moves = new ArrayList<>();
 //        boolean endedExploration = false;
 
         var mcts = new MCTS<CheckersMove, CheckersGame, NNCheckersPlayer>(
                 player, MCTS_PRIOR_WEIGHT, explorationFactor, random);
+        mcts.setStats(mctsStats());
 
         while (!game.isTerminated()) {
+            // Book moves are played without a search, and without a training example
+            CheckersMove bookMove = bookMove(game);
+            if (bookMove != null) {
+                game.move(bookMove);
+                moves.add(bookMove);
+                mcts.advanceToMove(bookMove);
+                continue;
+            }
+
             // Evaluate state for loss
 //            StateEvaluation<CheckersMove> networkResult = player.evaluateState(game);
 //
@@ -43,20 +71,24 @@ public class SelfPlayDataGenerator {
 //                mcts.setExplorationFactor(0);
 //                endedExploration = true;
 //            }
-            MCTSResult<CheckersMove> result = mcts.search(game, numMCTSIters, true);
+            boolean fullSearch = chooseFullSearch();
+            MCTSResult<CheckersMove> result = search(mcts, game, fullSearch, fullSearch);
 
             // Store training example
-            trainingExamples.add(new TrainingExample(
-                    game.cloneBoard(),
-                    game.isPlayer1Turn(),
-                    0, // final game value - will update this later
-                    result.scoredMoves,
-                    MAX_ERROR_VALUE,
-                    1.0 // importance weight
-                    ));
+            if (fullSearch) {
+                trainingExamples.add(new TrainingExample(
+                        game.cloneBoard(),
+                        game.isPlayer1Turn(),
+                        0, // final game value - will update this later
+                        result.scoredMoves,
+                        MAX_ERROR_VALUE,
+                        1.0 // importance weight
+                        ));
+            }
 
             // take move
             game.move(result.chosenMove);
+            moves.add(result.chosenMove);
 
             // update gametree in MCTS
             mcts.advanceToMove(result.chosenMove);
@@ -68,7 +100,7 @@ public class SelfPlayDataGenerator {
             te.finalGameValue = te.isPlayer1 ? p1Score : -p1Score;
         }
 
-        return new GameResult(trainingExamples, p1Score, startingPlayer1Turn);
+        return new GameResult(trainingExamples, p1Score, startingPlayer1Turn, moves, startingPlayer1Turn);
     }
 
     public GameResult playOneGameForTrainingData(CheckersValueNN nn, CheckersValueNN opponentNN) {
@@ -76,41 +108,57 @@ public class SelfPlayDataGenerator {
         boolean playerIsPlayer1 = random.nextBoolean();
         CheckersGame game = new CheckersGame(true); // true = player1 goes first, but my player is not always P1
         NNCheckersPlayer player = new NNCheckersPlayer(nn);
+        player.setEvaluationCache(evaluationCache);
         NNCheckersPlayer opponent = new NNCheckersPlayer(opponentNN);
+        opponent.setEvaluationCache(evaluationCache);
 
         List<TrainingExample> trainingExamples = new ArrayList<>();
+        List<CheckersMove> moves = new ArrayList<>();
         var mcts = new MCTS<CheckersMove, CheckersGame, NNCheckersPlayer>(
                 player, MCTS_PRIOR_WEIGHT, explorationFactor, random);
         var opponentMCTS = new MCTS<CheckersMove, CheckersGame, NNCheckersPlayer>(
                 opponent, MCTS_PRIOR_WEIGHT, explorationFactor, random);
+        mcts.setStats(mctsStats());
+        opponentMCTS.setStats(mctsStats());
 
         while (!game.isTerminated()) {
-            if (game.isPlayer1Turn() == playerIsPlayer1) {
-                MCTSResult<CheckersMove> result = mcts.search(game, numMCTSIters, true);
+            CheckersMove bookMove = bookMove(game);
+            if (bookMove != null) {
+                game.move(bookMove);
+                moves.add(bookMove);
+                mcts.advanceToMove(bookMove);
+                opponentMCTS.advanceToMove(bookMove);
+            } else if (game.isPlayer1Turn() == playerIsPlayer1) {
+                boolean fullSearch = chooseFullSearch();
+                MCTSResult<CheckersMove> result = search(mcts, game, fullSearch, fullSearch);
 
                 // Store training example
-                trainingExamples.add(new TrainingExample(
-                        game.cloneBoard(),
-                        game.isPlayer1Turn(),
-                        0, // final game value - will update this later
-                        result.scoredMoves,
-                        MAX_ERROR_VALUE,
-                        1.0 // importance weight
-                        ));
+                if (fullSearch) {
+                    trainingExamples.add(new TrainingExample(
+                            game.cloneBoard(),
+                            game.isPlayer1Turn(),
+                            0, // final game value - will update this later
+                            result.scoredMoves,
+                            MAX_ERROR_VALUE,
+                            1.0 // importance weight
+                            ));
+                }
 
                 // take move
                 game.move(result.chosenMove);
+                moves.add(result.chosenMove);
 
                 // update gametree in MCTS
                 mcts.advanceToMove(result.chosenMove);
                 opponentMCTS.advanceToMove(result.chosenMove);
             } else {
-                MCTSResult<CheckersMove> result = opponentMCTS.search(game, numMCTSIters, true);
+                MCTSResult<CheckersMove> result = search(opponentMCTS, game, true, false);
 
                 // do not store training example for opponent moves
 
                 // take move
                 game.move(result.chosenMove);
+                moves.add(result.chosenMove);
 
                 // update gametree in MCTS
                 mcts.advanceToMove(result.chosenMove);
@@ -124,10 +172,116 @@ public class SelfPlayDataGenerator {
             te.finalGameValue = playerScore;
         }
 
-        return new GameResult(trainingExamples, playerScore, playerIsPlayer1);
+        return new GameResult(trainingExamples, playerScore, playerIsPlayer1, moves, true);
+    }
+
+    private boolean chooseFullSearch() {
+        return fullSearchFraction >= 1.0 || random.nextDouble() < fullSearchFraction;
+    }
+
+    private MCTSResult<CheckersMove> search(MCTS<CheckersMove, CheckersGame, NNCheckersPlayer> mcts,
+            CheckersGame game, boolean fullSearch, boolean recorded) {
+        // a recorded search's visit counts are what the network is trained on, and early stopping only
+        // promises to keep the most visited move. A single move is still played at once; a proven root always is.
+        mcts.setEarlyStopping(recorded && game.getMoves().size() > 1 ? 0 : earlyStopping);
+        MCTSResult<CheckersMove> result = fullSearch
+                ? mcts.search(game, numMCTSIters, true)
+                : mcts.search(game, fastMCTSIters, false);
+        mctsIterations.add(result.numIterations);
+        mctsIterationsSaved.add(result.numIterationsSaved);
+        (fullSearch ? numFullSearches : numFastSearches).increment();
+        return result;
     }
 
     public void setNumMCTSIters(int numMCTSIters) {
         this.numMCTSIters = numMCTSIters;
     }
+
+    /**
+     * Playout cap randomization: give only a random fullSearchFraction of the player's moves the full search,
+     * and only those become training examples. The other moves get a fast search of fastMCTSIters
+     * without Dirichlet noise, which makes games much cheaper. Every game's result still trains the value.
+     * A fraction of 1, the default, searches every move in full.
+     */
+    public void setPlayoutCapRandomization(double fullSearchFraction, int fastMCTSIters) {
+        if (fullSearchFraction <= 0 || fullSearchFraction > 1) {
+            throw new RuntimeException("Full search fraction must be in (0, 1]");
+        }
+        if (fastMCTSIters < 1) {
+            throw new RuntimeException("Fast search iterations must be >= 1");
+        }
+        this.fullSearchFraction = fullSearchFraction;
+        this.fastMCTSIters = fastMCTSIters;
+    }
+
+    public double getFullSearchFraction() {
+        return fullSearchFraction;
+    }
+
+    public int getFastMCTSIters() {
+        return fastMCTSIters;
+    }
+
+    /** The fraction of searches so far that were full searches */
+    public double getFractionOfFullSearches() {
+        long full = numFullSearches.sum();
+        long total = full + numFastSearches.sum();
+        return total == 0 ? 0.0 : full / (double) total;
+    }
+
+    /** The mean iterations per search so far */
+    public double getMeanIterationsPerSearch() {
+        long searches = numFullSearches.sum() + numFastSearches.sum();
+        return searches == 0 ? 0.0 : mctsIterations.sum() / (double) searches;
+    }
+
+    /**
+     * Play moves from the book in positions it has, instead of searching. The book should be
+     * stochastic so that self-play games don't all start the same way.
+     */
+    public void setOpeningBook(OpeningBook<CheckersMove, CheckersGame> openingBook) {
+        this.openingBook = openingBook;
+    }
+
+    /** Share this cache of network evaluations between all the games' players */
+    public void setEvaluationCache(EvaluationCache<CheckersMove> evaluationCache) {
+        this.evaluationCache = evaluationCache;
+    }
+
+    /**
+     * Stop searches early once their best move is settled, except the searches that record a training example,
+     * which run every iteration unless there is only one move. See MCTS.setEarlyStopping.
+     */
+    public void setEarlyStopping(double fraction) {
+        this.earlyStopping = fraction;
+    }
+
+    public double getEarlyStopping() {
+        return earlyStopping;
+    }
+
+    /** The fraction of the searches' iterations that early stopping has saved */
+    public double getFractionOfIterationsSaved() {
+        long saved = mctsIterationsSaved.sum();
+        long total = saved + mctsIterations.sum();
+        return total == 0 ? 0.0 : saved / (double) total;
+    }
+
+    /** Write the stats of every search as a line of JSON to out, or stop if it is null */
+    public void setMCTSStatsOutput(Writer out) {
+        this.mctsStatsOutput = out;
+    }
+
+    private MCTSStats mctsStats() {
+        if (mctsStatsOutput == null) {
+            return null;
+        }
+        MCTSStats stats = new MCTSStats();
+        stats.setJsonOutput(mctsStatsOutput);
+        return stats;
+    }
+
+    private CheckersMove bookMove(CheckersGame game) {
+        return openingBook == null ? null : openingBook.move(game, random);
+    }
 }
@@ -1,66 +1,66 @@
-package com.dillard.games.checkers.ui;
-
-import java.awt.Component;
-import java.awt.Graphics;
-
-import javax.swing.JPanel;
-
-import com.dillard.games.checkers.CheckersLocation;
-import com.dillard.games.checkers.PieceColor;
-
-public class CheckersBoardSquare extends JPanel {
-    private static final long serialVersionUID = 1L;
-    private CheckersLocation myLocation;
-	private boolean canHaveChecker = false;
-	private CheckerPiece piece = null;
-
-	public CheckersBoardSquare(CheckersLocation location, boolean canHaveChecker) {
-		myLocation = location;
-		this.canHaveChecker = canHaveChecker;
-	}
-
-	@Override
-    public void paint(Graphics g) {
-		super.paint(g);
-		for (Component comp : this.getComponents()) {
-			comp.paint(g);
-		}
-	}
-
-	public void addChecker(PieceColor color, boolean isKing) {
-		CheckerPiece piece = new CheckerPiece(color, isKing);
-		this.piece = piece;
-		add(piece);
-		repaint();
-	}
-
-	public void removeChecker() {
-		this.removeAll();
-		this.repaint();
-		this.piece = null;
-	}
-
-	public void toggleSelected() {
-		if (hasChecker()) {
-			piece.toggleSelected();
-		}
-		repaint();
-	}
-
-	public CheckersLocation getCheckersLocation() {
-		return myLocation;
-	}
-	public boolean hasChecker() {
-		return this.piece != null;
-	}
-	public boolean canHaveChecker() {
-		return canHaveChecker;
-	}
-
-	public CheckerPiece getPiece() {
-		return piece;
-	}
-
-	@Override
-    public String toString() {return myLocation.toString();}
-}
+package com.dillard.games.checkers.ui;
+
+import java.awt.Component;
+import java.awt.Graphics;
+
+import javax.swing.JPanel;
+
+import com.dillard.games.checkers.CheckersLocation;
+import com.dillard.games.checkers.PieceColor;
+
+public class CheckersBoardSquare extends JPanel {
+    private static final long serialVersionUID = 1L;
+    private CheckersLocation myLocation;
+	private boolean canHaveChecker = false;
+	private CheckerPiece piece = null;
+
+	public CheckersBoardSquare(CheckersLocation location, boolean canHaveChecker) {
+		myLocation = location;
+		this.canHaveChecker = canHaveChecker;
+	}
+
+	@Override
+    public void paint(Graphics g) {
+		super.paint(g);
+		for (Component comp : this.getComponents()) {
+			comp.paint(g);
+		}
+	}
+
+	public void addChecker(PieceColor color, boolean isKing) {
+		CheckerPiece piece = new CheckerPiece(color, isKing);
+		this.piece = piece;
+		add(piece);
+		repaint();
+	}
+
+	public void removeChecker() {
+		this.removeAll();
+		this.repaint();
+		this.piece = null;
+	}
+
+	public void toggleSelected() {
+		if (hasChecker()) {
+			piece.toggleSelected();
+		}
+		repaint();
+	}
+
+	public CheckersLocation getCheckersLocation() {
+		return myLocation;
+	}
+	public boolean hasChecker() {
+		return this.piece != null;
+	}
+	public boolean canHaveChecker() {
+		return canHaveChecker;
+	}
+
+	public CheckerPiece getPiece() {
+		return piece;
+	}
+
+	@Override
+    public String toString() {return myLocation.toString();}
+}
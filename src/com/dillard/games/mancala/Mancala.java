@@ -1,321 +1,355 @@
-package com.dillard.games.mancala;
-import java.util.ArrayList;
-import java.util.List;
-
-import com.dillard.games.Game;
-import com.dillard.games.InvalidMoveException;
-
-public class Mancala implements Game<MancalaMove, Mancala>, Cloneable {
-	static final int STORE_INDEX = 6;
-	public static final int NUM_TOTAL_MOVES = 6;
-	static final int NUM_PITS_PER_ROW = 6;
-	static final int NUM_SEEDS_PER_PIT = 4;
-	int numSeedsToWin = NUM_PITS_PER_ROW * NUM_SEEDS_PER_PIT + 1;
-
-	private boolean isPlayer1Turn;
-	private int[] north;
-	private int[] south;
-
-	Mancala() {
-		isPlayer1Turn = true;
-		north = new int[NUM_PITS_PER_ROW + 1];	// Player 2's row of pits and store
-		south = new int[NUM_PITS_PER_ROW + 1]; // Player 1's row of pits and store
-
-		for(int i=0; i<STORE_INDEX; i++) {
-			north[i] = NUM_SEEDS_PER_PIT;
-			south[i] = NUM_SEEDS_PER_PIT;
-		}
-	}
-	Mancala(Mancala other) {
-		isPlayer1Turn = other.isPlayer1Turn;
-		north = new int[NUM_PITS_PER_ROW + 1];	// Player 2's row of pits and store
-		south = new int[NUM_PITS_PER_ROW + 1]; // Player 1's row of pits and store
-
-		for(int i=0; i<NUM_PITS_PER_ROW + 1; i++) {
-			north[i] = other.north[i];
-			south[i] = other.south[i];
-		}
-	}
-
-	public double evaluate(boolean player1) {
-		return materialAdvantage(player1);
-		//if(this.isTerminated()) System.out.print("." + ad+".");//System.out.println("Found terminal state - score: " + ad);
-	}
-
-	private int materialAdvantage(boolean player1) {
-		int player1ScoreAdvantage =  south[STORE_INDEX] - north[STORE_INDEX];
-		return (player1 ? player1ScoreAdvantage : -player1ScoreAdvantage);
-	}
-
-	public boolean isPlayer1Turn() {
-		return isPlayer1Turn;
-	}
-
-	public boolean isTerminated() {
-		return ((getFinalScore(true) >= numSeedsToWin) || (getFinalScore(false) >= numSeedsToWin))||
-			(sumPits(true) == 0 || sumPits(false) == 0);
-	}
-
-	private int sumPits(boolean player1) {
-		int sum=0;
-		if(player1) {
-			for(int i=0; i<STORE_INDEX; i++) {
-				sum += this.south[i];
-			}
-		}
-		else{
-			for(int i=0; i<STORE_INDEX; i++) {
-				sum += this.north[i];
-			}
-		}
-
-		return sum;
-	}
-
-	private int numNonemptyPits(boolean player1) {
-		int numNonemptyPits = 0;
-		if(player1) {
-			for(int i=0; i<STORE_INDEX; i++) {
-				if(south[i] > 0) numNonemptyPits++;
-			}
-		}
-		else{
-			for(int i=0; i<STORE_INDEX; i++) {
-				if(north[i] > 0) numNonemptyPits++;
-			}
-		}
-
-		return numNonemptyPits;
-	}
-
-
-	public int getNumStonesOnBoard(boolean player1Perspective)
-	{
-		int stonesOnBoard = 0;
-
-		if(player1Perspective) {
-			for(int i=0; i<STORE_INDEX; i++) {
-				stonesOnBoard += south[i];
-			}
-		}
-		else {
-			for(int i=0; i<STORE_INDEX; i++) {
-				stonesOnBoard += north[i];
-			}
-		}
-
-		return stonesOnBoard;
-	}
-
-
-
-	public int numMoves() {
-		return numNonemptyPits(isPlayer1Turn);
-	}
-
-	public List<MancalaMove> getMoves() {
-		List<MancalaMove> moves = new ArrayList<>();
-
-		if(isPlayer1Turn) {
-			for(int i=0; i<STORE_INDEX; i++) {
-				if(south[i] > 0) moves.add(new MancalaMove(i));
-			}
-		}
-		else{
-			for(int i=0; i<STORE_INDEX; i++) {
-				if(north[i] > 0) moves.add(new MancalaMove(i + STORE_INDEX));
-			}
-		}
-
-		return moves;
-	}
-
-	// Accepts integers between 0 and 11, inclusive.
-	// A move for player 1 should be 0-5, for player2 should be 6-11
-	public void move(MancalaMove o) throws InvalidMoveException {
-		// Error checking
-		if(!(o instanceof MancalaMove)) throw new InvalidMoveException();
-		MancalaMove move = o;
-		if(move.m < 0 || move.m >= 2*STORE_INDEX) throw new InvalidMoveException();
-		if(this.isTerminated()) throw new InvalidMoveException(
-				"Game is terminated! No more moves allowed");
-
-
-		// Collect and distribute seeds
-		if(move.m < STORE_INDEX) {
-			if(!isPlayer1Turn) throw new InvalidMoveException("Wrong side of the board!");
-
-			// Collect seeds
-			int seeds = south[move.m];
-			if(seeds == 0) throw new InvalidMoveException("This pit is empty!");
-			south[move.m] = 0;
-
-
-			// Distribute seeds
-			while(seeds > 0) {
-				move.m++;
-				if(move.m <= STORE_INDEX) {
-					south[move.m]++;
-					seeds--;
-				}
-				else if(move.m <= 2* STORE_INDEX) {
-					north[move.m - south.length]++;
-					seeds--;
-				}
-				else {
-					move.m = -1;
-				}
-			}
-		}
-		else if(move.m >= STORE_INDEX) {
-			if(isPlayer1Turn) throw new InvalidMoveException("Wrong side of the board!");
-
-			// Collect seeds
-			int seeds = north[move.m - STORE_INDEX];
-			if(seeds == 0) throw new InvalidMoveException("This pit is empty!");
-			north[move.m - STORE_INDEX] = 0;
-
-			// Distribute seeds
-			while(seeds > 0) {
-				move.m++;
-				if(move.m < STORE_INDEX) {
-					south[move.m]++;
-					seeds--;
-				}
-				else if(move.m <= 2*STORE_INDEX) {
-					north[move.m - STORE_INDEX]++;
-					seeds--;
-				}
-				else {
-					move.m = -1;
-				}
-			}
-		}
-
-
-		// check for special last-seed conditions:
-		// last seed was placed in the store (current player goes again),
-		// or last seed was placed in an empty pit, for which the opposite pit was not empty (capture)
-
-		// Capture
-		if(isPlayer1Turn()) {
-			if(move.m < STORE_INDEX) {
-				if(south[move.m] == 1 && north[STORE_INDEX-1 - move.m] > 0) {
-					int captureNum = south[move.m] + north[STORE_INDEX-1 - move.m];
-					south[move.m] = 0;
-					north[STORE_INDEX-1 - move.m] = 0;
-					south[STORE_INDEX] += captureNum;
-				}
-			}
-		}
-		else
-			if(move.m >= STORE_INDEX && move.m < 2*STORE_INDEX) {
-				if(north[move.m - STORE_INDEX] == 1 &&
-						south[STORE_INDEX - 1 - (move.m - STORE_INDEX)] > 0) {
-					int captureNum = north[move.m - STORE_INDEX] +
-						south[STORE_INDEX - 1 - (move.m - STORE_INDEX)];
-					north[move.m - STORE_INDEX] = 0;
-					south[STORE_INDEX - 1 - (move.m - STORE_INDEX)] = 0;
-					north[STORE_INDEX] += captureNum;
-				}
-			}
-
-
-		// Check for one side running out of seeds (ends game with
-		// remaining seeds on board going to player whose pits they are in)
-		if(sumPits(true) == 0) {
-			clearSeeds(false);
-		}
-		else if(sumPits(false) == 0) {
-			clearSeeds(true);
-		}
-
-		// Change turns if appropriate
-		if(((move.m == STORE_INDEX) && isPlayer1Turn) ||
-				((move.m == 2*STORE_INDEX) && !isPlayer1Turn)) {
-			// Turn remains the same
-		}
-		else {
-			// Change turns
-			isPlayer1Turn = !isPlayer1Turn;
-		}
-	}
-
-	private void clearSeeds(boolean player1Side) {
-		int[] pits = (player1Side ? south : north);
-		int temp;
-		for(int i=0; i<STORE_INDEX; i++) {
-			temp = pits[i];
-			pits[i] = 0;
-			pits[STORE_INDEX] += temp;
-		}
-	}
-
-	@Override
-    public Mancala clone() {
-		return new Mancala(this);
-	}
-
-	public double getFinalScore(boolean player1) {
-		if(player1) return south[STORE_INDEX];
-		else return north[STORE_INDEX];
-	}
-
-	public boolean isSuccessor(Mancala laterGame) {
-		throw new UnsupportedOperationException();
-	}
-
-	public int[] pitsToArray(boolean player1Perspective) {
-		int[] out = new int[NUM_PITS_PER_ROW * 2];
-
-		if(player1Perspective) {
-			for(int i=0; i<NUM_PITS_PER_ROW; i++) {
-				out[i] = south[i];
-				out[i + NUM_PITS_PER_ROW] = north[i];
-			}
-		}
-		else {
-			for(int i=0; i<NUM_PITS_PER_ROW; i++) {
-				out[i] = north[i];
-				out[i + NUM_PITS_PER_ROW] = south[i];
-			}
-		}
-
-		return out;
-	}
-
-	@Override
-    public String toString() {
-		StringBuffer sb = new StringBuffer();
-
-		// North numbers
-		sb.append("    ");
-		for(int i=2*STORE_INDEX; i>STORE_INDEX; i--) {
-			sb.append(i + (i>9? "" : " ")+ (i>STORE_INDEX+1 ? "|" : ""));
-		}
-
-		// North pits
-		sb.append("\n    ");
-		for(int i=STORE_INDEX-1; i>=0; i--) {
-			sb.append(north[i] + "  ");
-		}
-
-		// Stores
-		sb.append("\n" + north[STORE_INDEX] + " ------------------- " + south[STORE_INDEX] + "\n");
-
-		// South pits
-		sb.append("    ");
-		for(int i=0; i<STORE_INDEX; i++) {
-			sb.append(south[i] + "  ");
-		}
-
-		// South numbers
-		sb.append("\n    ");
-		for(int i=1; i<=STORE_INDEX; i++) {
-			sb.append(i + (i<STORE_INDEX? " |" : ""));
-		}
-
-
-		return sb.toString();
-	}
-}
+package com.dillard.games.mancala;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.dillard.games.Game;
+import com.dillard.games.InvalidMoveException;
+import com.dillard.games.UndoableGame;
+
+public class Mancala implements Game<MancalaMove, Mancala>, UndoableGame<MancalaMove, Mancala>, Cloneable {
+	static final int STORE_INDEX = 6;
+	public static final int NUM_TOTAL_MOVES = 6;
+	static final int NUM_PITS_PER_ROW = 6;
+	static final int NUM_SEEDS_PER_PIT = 4;
+	int numSeedsToWin = NUM_PITS_PER_ROW * NUM_SEEDS_PER_PIT + 1;
+
+	private boolean isPlayer1Turn;
+	private int[] north;
+	private int[] south;
+
+	Mancala() {
+		isPlayer1Turn = true;
+		north = new int[NUM_PITS_PER_ROW + 1];	// Player 2's row of pits and store
+		south = new int[NUM_PITS_PER_ROW + 1]; // Player 1's row of pits and store
+
+		for(int i=0; i<STORE_INDEX; i++) {
+			north[i] = NUM_SEEDS_PER_PIT;
+			south[i] = NUM_SEEDS_PER_PIT;
+		}
+	}
+	Mancala(Mancala other) {
+		isPlayer1Turn = other.isPlayer1Turn;
+		north = new int[NUM_PITS_PER_ROW + 1];	// Player 2's row of pits and store
+		south = new int[NUM_PITS_PER_ROW + 1]; // Player 1's row of pits and store
+
+		for(int i=0; i<NUM_PITS_PER_ROW + 1; i++) {
+			north[i] = other.north[i];
+			south[i] = other.south[i];
+		}
+	}
+
+	public double evaluate(boolean player1) {
+		return materialAdvantage(player1);
+		//if(this.isTerminated()) System.out.print("." + ad+".");//System.out.println("Found terminal state - score: " + ad);
+	}
+
+	private int materialAdvantage(boolean player1) {
+		int player1ScoreAdvantage =  south[STORE_INDEX] - north[STORE_INDEX];
+		return (player1 ? player1ScoreAdvantage : -player1ScoreAdvantage);
+	}
+
+	public boolean isPlayer1Turn() {
+		return isPlayer1Turn;
+	}
+
+	public boolean isTerminated() {
+		return ((getFinalScore(true) >= numSeedsToWin) || (getFinalScore(false) >= numSeedsToWin))||
+			(sumPits(true) == 0 || sumPits(false) == 0);
+	}
+
+	private int sumPits(boolean player1) {
+		int sum=0;
+		if(player1) {
+			for(int i=0; i<STORE_INDEX; i++) {
+				sum += this.south[i];
+			}
+		}
+		else{
+			for(int i=0; i<STORE_INDEX; i++) {
+				sum += this.north[i];
+			}
+		}
+
+		return sum;
+	}
+
+	private int numNonemptyPits(boolean player1) {
+		int numNonemptyPits = 0;
+		if(player1) {
+			for(int i=0; i<STORE_INDEX; i++) {
+				if(south[i] > 0) numNonemptyPits++;
+			}
+		}
+		else{
+			for(int i=0; i<STORE_INDEX; i++) {
+				if(north[i] > 0) numNonemptyPits++;
+			}
+		}
+
+		return numNonemptyPits;
+	}
+
+
+	public int getNumStonesOnBoard(boolean player1Perspective)
+	{
+		int stonesOnBoard = 0;
+
+		if(player1Perspective) {
+			for(int i=0; i<STORE_INDEX; i++) {
+				stonesOnBoard += south[i];
+			}
+		}
+		else {
+			for(int i=0; i<STORE_INDEX; i++) {
+				stonesOnBoard += north[i];
+			}
+		}
+
+		return stonesOnBoard;
+	}
+
+
+
+	public int numMoves() {
+		return numNonemptyPits(isPlayer1Turn);
+	}
+
+	public List<MancalaMove> getMoves() {
+		List<MancalaMove> moves = new ArrayList<>();
+
+		if(isPlayer1Turn) {
+			for(int i=0; i<STORE_INDEX; i++) {
+				if(south[i] > 0) moves.add(new MancalaMove(i));
+			}
+		}
+		else{
+			for(int i=0; i<STORE_INDEX; i++) {
+				if(north[i] > 0) moves.add(new MancalaMove(i + STORE_INDEX));
+			}
+		}
+
+		return moves;
+	}
+
+	// Accepts integers between 0 and 11, inclusive.
+	// A move for player 1 should be 0-5, for player2 should be 6-11
+	public void move(MancalaMove o) throws InvalidMoveException {
+		// Error checking
+		if(!(o instanceof MancalaMove)) throw new InvalidMoveException();
+		MancalaMove move = o;
+		if(move.m < 0 || move.m >= 2*STORE_INDEX) throw new InvalidMoveException();
+		if(this.isTerminated()) throw new InvalidMoveException(
+				"Game is terminated! No more moves allowed");
+
+		// Track the sowing position separately so that the move itself is left unchanged
+		int pos = move.m;
+
+
+		// Collect and distribute seeds
+		if(pos < STORE_INDEX) {
+			if(!isPlayer1Turn) throw new InvalidMoveException("Wrong side of the board!");
+
+			// Collect seeds
+			int seeds = south[pos];
+			if(seeds == 0) throw new InvalidMoveException("This pit is empty!");
+			south[pos] = 0;
+
+
+			// Distribute seeds
+			while(seeds > 0) {
+				pos++;
+				if(pos <= STORE_INDEX) {
+					south[pos]++;
+					seeds--;
+				}
+				else if(pos <= 2* STORE_INDEX) {
+					north[pos - south.length]++;
+					seeds--;
+				}
+				else {
+					pos = -1;
+				}
+			}
+		}
+		else if(pos >= STORE_INDEX) {
+			if(isPlayer1Turn) throw new InvalidMoveException("Wrong side of the board!");
+
+			// Collect seeds
+			int seeds = north[pos - STORE_INDEX];
+			if(seeds == 0) throw new InvalidMoveException("This pit is empty!");
+			north[pos - STORE_INDEX] = 0;
+
+			// Distribute seeds
+			while(seeds > 0) {
+				pos++;
+				if(pos < STORE_INDEX) {
+					south[pos]++;
+					seeds--;
+				}
+				else if(pos <= 2*STORE_INDEX) {
+					north[pos - STORE_INDEX]++;
+					seeds--;
+				}
+				else {
+					pos = -1;
+				}
+			}
+		}
+
+
+		// check for special last-seed conditions:
+		// last seed was placed in the store (current player goes again),
+		// or last seed was placed in an empty pit, for which the opposite pit was not empty (capture)
+
+		// Capture
+		if(isPlayer1Turn()) {
+			if(pos < STORE_INDEX) {
+				if(south[pos] == 1 && north[STORE_INDEX-1 - pos] > 0) {
+					int captureNum = south[pos] + north[STORE_INDEX-1 - pos];
+					south[pos] = 0;
+					north[STORE_INDEX-1 - pos] = 0;
+					south[STORE_INDEX] += captureNum;
+				}
+			}
+		}
+		else
+			if(pos >= STORE_INDEX && pos < 2*STORE_INDEX) {
+				if(north[pos - STORE_INDEX] == 1 &&
+						south[STORE_INDEX - 1 - (pos - STORE_INDEX)] > 0) {
+					int captureNum = north[pos - STORE_INDEX] +
+						south[STORE_INDEX - 1 - (pos - STORE_INDEX)];
+					north[pos - STORE_INDEX] = 0;
+					south[STORE_INDEX - 1 - (pos - STORE_INDEX)] = 0;
+					north[STORE_INDEX] += captureNum;
+				}
+			}
+
+
+		// Check for one side running out of seeds (ends game with
+		// remaining seeds on board going to player whose pits they are in)
+		if(sumPits(true) == 0) {
+			clearSeeds(false);
+		}
+		else if(sumPits(false) == 0) {
+			clearSeeds(true);
+		}
+
+		// Change turns if appropriate
+		if(((pos == STORE_INDEX) && isPlayer1Turn) ||
+				((pos == 2*STORE_INDEX) && !isPlayer1Turn)) {
+			// Turn remains the same
+		}
+		else {
+			// Change turns
+			isPlayer1Turn = !isPlayer1Turn;
+		}
+	}
+
+	// A move can touch nearly every pit, so the undo token is just a copy of the pits and the turn
+	public Object doMove(MancalaMove move) throws InvalidMoveException {
+		int[] undo = new int[2 * (NUM_PITS_PER_ROW + 1) + 1];
+		System.arraycopy(south, 0, undo, 0, NUM_PITS_PER_ROW + 1);
+		System.arraycopy(north, 0, undo, NUM_PITS_PER_ROW + 1, NUM_PITS_PER_ROW + 1);
+		undo[undo.length - 1] = isPlayer1Turn ? 1 : 0;
+		move(move);
+		return undo;
+	}
+
+	public void undoMove(Object undoToken) {
+		int[] undo = (int[]) undoToken;
+		System.arraycopy(undo, 0, south, 0, NUM_PITS_PER_ROW + 1);
+		System.arraycopy(undo, NUM_PITS_PER_ROW + 1, north, 0, NUM_PITS_PER_ROW + 1);
+		isPlayer1Turn = undo[undo.length - 1] == 1;
+	}
+
+	private void clearSeeds(boolean player1Side) {
+		int[] pits = (player1Side ? south : north);
+		int temp;
+		for(int i=0; i<STORE_INDEX; i++) {
+			temp = pits[i];
+			pits[i] = 0;
+			pits[STORE_INDEX] += temp;
+		}
+	}
+
+	@Override
+    public Mancala clone() {
+		return new Mancala(this);
+	}
+
+	public double getFinalScore(boolean player1) {
+		if(player1) return south[STORE_INDEX];
+		else return north[STORE_INDEX];
+	}
+
+	public long positionHash() {
+		long hash = isPlayer1Turn ? 1 : 2;
+		for(int i=0; i<NUM_PITS_PER_ROW + 1; i++) {
+			hash = hash * 0x9E3779B97F4A7C15L + south[i];
+			hash = hash * 0x9E3779B97F4A7C15L + north[i];
+		}
+		// spread the bits so that similar positions do not land in similar table slots
+		hash ^= hash >>> 31;
+		hash *= 0xBF58476D1CE4E5B9L;
+		hash ^= hash >>> 29;
+		return hash;
+	}
+
+	public boolean isSuccessor(Mancala laterGame) {
+		throw new UnsupportedOperationException();
+	}
+
+	public int[] pitsToArray(boolean player1Perspective) {
+		int[] out = new int[NUM_PITS_PER_ROW * 2];
+
+		if(player1Perspective) {
+			for(int i=0; i<NUM_PITS_PER_ROW; i++) {
+				out[i] = south[i];
+				out[i + NUM_PITS_PER_ROW] = north[i];
+			}
+		}
+		else {
+			for(int i=0; i<NUM_PITS_PER_ROW; i++) {
+				out[i] = north[i];
+				out[i + NUM_PITS_PER_ROW] = south[i];
+			}
+		}
+
+		return out;
+	}
+
+	@Override
+    public String toString() {
+		StringBuffer sb = new StringBuffer();
+
+		// North numbers
+		sb.append("    ");
+		for(int i=2*STORE_INDEX; i>STORE_INDEX; i--) {
+			sb.append(i + (i>9? "" : " ")+ (i>STORE_INDEX+1 ? "|" : ""));
+		}
+
+		// North pits
+		sb.append("\n    ");
+		for(int i=STORE_INDEX-1; i>=0; i--) {
+			sb.append(north[i] + "  ");
+		}
+
+		// Stores
+		sb.append("\n" + north[STORE_INDEX] + " ------------------- " + south[STORE_INDEX] + "\n");
+
+		// South pits
+		sb.append("    ");
+		for(int i=0; i<STORE_INDEX; i++) {
+			sb.append(south[i] + "  ");
+		}
+
+		// South numbers
+		sb.append("\n    ");
+		for(int i=1; i<=STORE_INDEX; i++) {
+			sb.append(i + (i<STORE_INDEX? " |" : ""));
+		}
+
+
+		return sb.toString();
+	}
+}
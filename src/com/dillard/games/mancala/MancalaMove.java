@@ -1,11 +1,31 @@
-package com.dillard.games.mancala;
-
-import com.dillard.games.Move;
-
-public class MancalaMove implements Move {
-	Integer m;
-
-	public MancalaMove(Integer i) {
-		m = i;
-	}
-}
+package com.dillard.games.mancala;
+
+import com.dillard.games.Move;
+
+public class MancalaMove implements Move {
+	Integer m;
+
+	public MancalaMove(Integer i) {
+		m = i;
+	}
+
+	@Override
+	public int hashCode() {
+		return m == null ? 0 : m.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (!(obj instanceof MancalaMove))
+			return false;
+		MancalaMove other = (MancalaMove) obj;
+		return m == null ? other.m == null : m.equals(other.m);
+	}
+
+	@Override
+	public String toString() {
+		return String.valueOf(m);
+	}
+}
@@ -1,5 +1,5 @@
-package com.dillard.games.risk;
-
-public interface GamePlayer<G extends Game> {
-	String getName();
-}
+package com.dillard.games.risk;
+
+public interface GamePlayer<G extends Game> {
+	String getName();
+}
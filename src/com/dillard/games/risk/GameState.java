@@ -1,5 +1,5 @@
-package com.dillard.games.risk;
-
-public interface GameState<G extends Game> {
-	
-}
+package com.dillard.games.risk;
+
+public interface GameState<G extends Game> {
+	
+}
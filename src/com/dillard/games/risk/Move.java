@@ -1,5 +1,5 @@
-package com.dillard.games.risk;
-
-public interface Move<G extends Game> {
-	void execute(G game);
-}
+package com.dillard.games.risk;
+
+public interface Move<G extends Game> {
+	void execute(G game);
+}
@@ -1,5 +1,5 @@
-package com.dillard.games.risk;
-
-public enum TurnPhase {
-	USE_CARDS, PLACE_ARMIES, ATTACK, REGROUP;
-}
+package com.dillard.games.risk;
+
+public enum TurnPhase {
+	USE_CARDS, PLACE_ARMIES, ATTACK, REGROUP;
+}
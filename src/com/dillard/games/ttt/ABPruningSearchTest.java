@@ -0,0 +1,75 @@
+package com.dillard.games.ttt;
+
+import java.time.Duration;
+import java.util.Random;
+
+import com.dillard.games.ABPruningPlayer;
+
+/** Checks that principal variation search and aspiration windows score positions the same as plain alpha-beta */
+public class ABPruningSearchTest {
+	private static final int NUM_PLIES = TicTacToe.NUM_TOTAL_PLACES;
+	private static final Duration BUDGET = Duration.ofSeconds(30);
+
+	public static void main(String[] args) throws Exception {
+		TicTacToe[] positions = {
+			position(),
+			position(5, 1),
+			position(1, 2, 5),
+			position(5, 9, 3),
+			position(1, 5, 9, 3),
+		};
+
+		int researches = 0;
+		for (TicTacToe position : positions) {
+			for (int depth : new int[] {1, 2, 3, 4, NUM_PLIES}) {
+				double plain = score(newPlayer(depth, false, 0), position, null);
+				double pvs = score(newPlayer(depth, true, 0), position, null);
+				assertTrue(pvs == plain, String.format("PVS at depth %d: %f, plain %f\n%s", depth, pvs, plain, position));
+			}
+
+			// searching until every line ends gives the full depth score
+			double plain = score(newPlayer(NUM_PLIES, false, 0), position, null);
+			for (boolean pvs : new boolean[] {false, true}) {
+				for (double window : new double[] {0.5, 2, 100}) {
+					ABPruningPlayer player = newPlayer(1, pvs, window);
+					double score = score(player, position, BUDGET);
+					assertTrue(score == plain, String.format("Aspiration window %f%s: %f, plain %f\n%s",
+							window, pvs ? " with PVS" : "", score, plain, position));
+					researches += player.getNumAspirationResearches();
+				}
+			}
+		}
+		assertTrue(researches > 0, "A narrow window should sometimes need a research");
+
+		System.out.println("Everything OK.");
+	}
+
+	private static TicTacToe position(int... places) throws Exception {
+		TicTacToe game = new TicTacToe(true);
+		for (int place : places) {
+			game.move(new TTTMove(place));
+		}
+		return game;
+	}
+
+	private static ABPruningPlayer newPlayer(int depth, boolean pvs, double aspirationWindow) {
+		ABPruningPlayer player = new ABPruningPlayer(depth, new Random(1));
+		player.setPrincipalVariationSearch(pvs);
+		player.setAspirationWindow(aspirationWindow);
+		return player;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static double score(ABPruningPlayer player, TicTacToe position, Duration budget) {
+		if (budget == null) {
+			player.move(position.clone());
+		} else {
+			player.move(position.clone(), budget);
+		}
+		return player.getLastScore();
+	}
+
+	public static void assertTrue(boolean value, String msg) {
+		if (!value) throw new RuntimeException(msg);
+	}
+}
@@ -1,10 +1,30 @@
-package com.dillard.games.ttt;
-
-import com.dillard.games.Move;
-
-public class TTTMove implements Move {
-	Integer m;
-	TTTMove(Integer m) {
-		this.m = m;
-	}
-}
+package com.dillard.games.ttt;
+
+import com.dillard.games.Move;
+
+public class TTTMove implements Move {
+	Integer m;
+	TTTMove(Integer m) {
+		this.m = m;
+	}
+
+	@Override
+	public int hashCode() {
+		return m == null ? 0 : m.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (!(obj instanceof TTTMove))
+			return false;
+		TTTMove other = (TTTMove) obj;
+		return m == null ? other.m == null : m.equals(other.m);
+	}
+
+	@Override
+	public String toString() {
+		return String.valueOf(m);
+	}
+}
@@ -1,5 +1,5 @@
-package com.dillard.nn;
-
-public class IncorrectInputsException extends RuntimeException {
-    private static final long serialVersionUID = 1L;
-}
+package com.dillard.nn;
+
+public class IncorrectInputsException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+}
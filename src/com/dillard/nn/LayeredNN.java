@@ -66,6 +66,14 @@ public class LayeredNN implements Serializable, Cloneable {
         return batchInputs;
     }
 
+    /** Activate a batch for prediction. Each output is the same as activate would give. */
+    public List<double[]> batchActivateInference(List<double[]> batchInputs) {
+        for (NNLayer layer : layers) {
+            batchInputs = layer.batchActivateInference(batchInputs);
+        }
+        return batchInputs;
+    }
+
     public void batchBackprop(List<double[]> batchErrorGradients) {
         List<double[]> nextLayerErrorGradient = batchErrorGradients;
         for (int layer = layers.length - 1; layer >= 0; layer--) {
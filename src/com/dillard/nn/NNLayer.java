@@ -1,5 +1,6 @@
 package com.dillard.nn;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public interface NNLayer extends Cloneable {
@@ -24,5 +25,17 @@ public interface NNLayer extends Cloneable {
 
     List<double[]> batchActivate(List<double[]> batchInputs);
 
+    /**
+     * Activate a batch for prediction. Unlike batchActivate, each output is the same as activate would give,
+     * with no batch statistics, so the batch can be any size.
+     */
+    default List<double[]> batchActivateInference(List<double[]> batchInputs) {
+        List<double[]> batchOutputs = new ArrayList<>(batchInputs.size());
+        for (double[] inputValues : batchInputs) {
+            batchOutputs.add(activate(inputValues));
+        }
+        return batchOutputs;
+    }
+
     List<double[]> batchBackprop(List<double[]> batchErrorGradients);
 }
\ No newline at end of file
@@ -133,6 +133,37 @@ public class NNLayerFullyConnectedBN implements NNLayer, Serializable {
         return outputValues;
     }
 
+    @Override
+    public List<double[]> batchActivateInference(List<double[]> batchInputs) {
+        // Input-major, so that each row of weights is used for the whole batch while it is in cache
+        final int batchN = batchInputs.size();
+        double[][] batchOutputs = new double[batchN][numOutputs];
+        for (int input=0; input<numInputs; input++) {
+            double[] inputWeights = weights[input];
+            for (int instanceIndex=0; instanceIndex<batchN; instanceIndex++) {
+                double inputValue = batchInputs.get(instanceIndex)[input];
+                if (inputValue == 0.0) {
+                    continue;
+                }
+                double[] outputValues = batchOutputs[instanceIndex];
+                for (int output=0; output<numOutputs; output++) {
+                    outputValues[output] += inputValue * inputWeights[output];
+                }
+            }
+        }
+
+        List<double[]> outputs = new ArrayList<>(batchN);
+        for (double[] outputValues : batchOutputs) {
+            for (int output=0; output<numOutputs; output++) {
+                double val = (outputValues[output] - ewmaMeans[output]) * ewmaInvSqrtVar[output]; // normalize
+                val = (val * weights[numInputs][output]) + weights[numInputs+1][output]; // BN bias and scaling
+                outputValues[output] = activationFunction.activate(val);
+            }
+            outputs.add(outputValues);
+        }
+        return outputs;
+    }
+
     @Override
     public double[] backprop(double[] errorGradient) {
 //        double[] inputNodeGradient = new double[numInputs];
@@ -52,6 +52,22 @@ public class NNLayerResidual implements Serializable, NNLayer {
         return outputValues;
     }
 
+    @Override
+    public List<double[]> batchActivateInference(List<double[]> batchInputs) {
+        List<double[]> batchOutputs = batchInputs;
+        for (NNLayer layer : layers) {
+            batchOutputs = layer.batchActivateInference(batchOutputs);
+        }
+        for (int instanceIndex=0; instanceIndex<batchInputs.size(); instanceIndex++) {
+            double[] inputValues = batchInputs.get(instanceIndex);
+            double[] outputValues = batchOutputs.get(instanceIndex);
+            for (int i=0; i<outputValues.length; i++) {
+                outputValues[i] = activationFunction.activate(outputValues[i] + inputValues[i]);
+            }
+        }
+        return batchOutputs;
+    }
+
     public double[] backprop(double[] errorGradient) {
         // We need to do this here because we trick the activation function on the last layer
         double[] outputDerivative = new double[errorGradient.length];